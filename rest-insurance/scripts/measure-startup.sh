@@ -0,0 +1,73 @@
+#!/usr/bin/env sh
+# Measures time-to-first-request: starts the application, polls URL until it
+# answers with HTTP 200, stops the process and repeats RUNS times.
+#
+# Usage:
+#   scripts/measure-startup.sh [RUNS] [URL] -- <command to start the app>
+#
+# Examples (run from rest-insurance/):
+#   ./gradlew bootJar
+#   scripts/measure-startup.sh 5 -- java -jar build/libs/profITsoft-insurance-rest-1.0.0.jar
+#
+#   ./gradlew cdsArchive -PfastStartup
+#   cd build/cds && ../../scripts/measure-startup.sh 5 -- java -XX:SharedArchiveFile=application.jsa \
+#       -Dspring.aot.enabled=true -jar profITsoft-insurance-rest-1.0.0.jar
+#
+# Set LIQUIBASE_ENABLED=false to measure a replica that does not run migrations.
+
+set -eu
+
+RUNS=5
+URL="http://localhost:8080/api/insurance_policy/_statistics"
+TIMEOUT_SECONDS=120
+
+if [ "$#" -gt 0 ] && [ "$1" != "--" ]; then RUNS=$1; shift; fi
+if [ "$#" -gt 0 ] && [ "$1" != "--" ]; then URL=$1; shift; fi
+if [ "$#" -eq 0 ] || [ "$1" != "--" ]; then
+	echo "usage: $0 [RUNS] [URL] -- <command>" >&2
+	exit 2
+fi
+shift
+
+# Milliseconds since the epoch; date +%s%3N is GNU-only, perl is on both Linux
+# and macOS.
+now_ms() {
+	perl -MTime::HiRes=time -e 'printf "%d\n", time * 1000'
+}
+
+results=""
+run=1
+while [ "$run" -le "$RUNS" ]; do
+	started=$(now_ms)
+	"$@" >/dev/null 2>&1 &
+	pid=$!
+
+	deadline=$((started + TIMEOUT_SECONDS * 1000))
+	until [ "$(curl -s -o /dev/null -w '%{http_code}' "$URL" || true)" = "200" ]; do
+		if ! kill -0 "$pid" 2>/dev/null; then
+			echo "run $run: application exited before answering" >&2
+			exit 1
+		fi
+		if [ "$(now_ms)" -gt "$deadline" ]; then
+			kill "$pid" 2>/dev/null || true
+			echo "run $run: no answer from $URL within ${TIMEOUT_SECONDS}s" >&2
+			exit 1
+		fi
+		sleep 0.05
+	done
+	elapsed=$(($(now_ms) - started))
+
+	kill "$pid" 2>/dev/null || true
+	wait "$pid" 2>/dev/null || true
+
+	echo "run $run: ${elapsed} ms"
+	results="$results $elapsed"
+	run=$((run + 1))
+done
+
+echo "$results" | tr ' ' '\n' | grep -v '^$' | sort -n | awk '
+	{ values[NR] = $1; sum += $1 }
+	END {
+		median = (NR % 2) ? values[(NR + 1) / 2] : (values[NR / 2] + values[NR / 2 + 1]) / 2
+		printf "runs: %d  min: %d ms  median: %d ms  max: %d ms  mean: %d ms\n", NR, values[1], median, values[NR], sum / NR
+	}'
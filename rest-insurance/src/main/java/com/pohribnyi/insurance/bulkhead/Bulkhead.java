@@ -0,0 +1,81 @@
+package com.pohribnyi.insurance.bulkhead;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.pohribnyi.insurance.util.exception.BulkheadFullException;
+
+/**
+ * Bounded executor for one kind of heavy job. Jobs run as the bulkhead's
+ * {@link Workload}, {@link Workload#BULK} unless stated otherwise, so their
+ * queries go to the matching connection pool.
+ */
+public class Bulkhead implements AutoCloseable {
+
+	private final String name;
+	private final Duration retryAfter;
+	private final Workload workload;
+	private final ThreadPoolExecutor executor;
+
+	public Bulkhead(String name, BulkheadProperties.Limits limits, Duration retryAfter) {
+		this(name, limits, retryAfter, Workload.BULK);
+	}
+
+	public Bulkhead(String name, BulkheadProperties.Limits limits, Duration retryAfter, Workload workload) {
+		this.name = name;
+		this.retryAfter = retryAfter;
+		this.workload = workload;
+		BlockingQueue<Runnable> queue = limits.queueCapacity() > 0
+				? new ArrayBlockingQueue<>(limits.queueCapacity())
+				: new SynchronousQueue<>();
+		this.executor = new ThreadPoolExecutor(limits.threads(), limits.threads(), 60, TimeUnit.SECONDS, queue,
+				new CustomizableThreadFactory(name + "-"), new ThreadPoolExecutor.AbortPolicy());
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	public <T> CompletableFuture<T> submit(Callable<T> job) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		try {
+			executor.execute(() -> {
+				Workload previous = workload.enter();
+				try {
+					result.complete(job.call());
+				} catch (Throwable e) {
+					result.completeExceptionally(e);
+				} finally {
+					previous.enter();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			throw new BulkheadFullException(name, retryAfter);
+		}
+		return result;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getActiveCount() {
+		return executor.getActiveCount();
+	}
+
+	public int getQueueSize() {
+		return executor.getQueue().size();
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+
+}
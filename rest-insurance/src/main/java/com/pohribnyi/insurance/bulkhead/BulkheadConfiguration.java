@@ -0,0 +1,59 @@
+package com.pohribnyi.insurance.bulkhead;
+
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfiguration {
+
+	@Bean
+	public Bulkheads bulkheads(BulkheadProperties properties) {
+		return new Bulkheads(
+				new Bulkhead("report", properties.report(), properties.retryAfter()),
+				new Bulkhead("report-range", properties.reportRange(), properties.retryAfter(),
+						Workload.REPORT_RANGE),
+				new Bulkhead("upload", properties.upload(), properties.retryAfter()),
+				new Bulkhead("bulk-edit", properties.bulkEdit(), properties.retryAfter()));
+	}
+
+	/**
+	 * Replaces the auto-configured pool with pools built from the same
+	 * {@code spring.datasource.*} settings: the regular one for interactive
+	 * requests, a smaller one for bulk jobs and one connection per report range
+	 * worker.
+	 */
+	@Bean
+	public WorkloadRoutingDataSource dataSource(DataSourceProperties dataSourceProperties,
+			BulkheadProperties properties, Environment environment) {
+		HikariDataSource oltpPool = createPool(dataSourceProperties, environment, "oltp");
+		HikariDataSource bulkPool = createPool(dataSourceProperties, environment, "bulk");
+		bulkPool.setMaximumPoolSize(properties.bulkPoolSize());
+		bulkPool.setMinimumIdle(0);
+		HikariDataSource reportRangePool = createPool(dataSourceProperties, environment, "report-range");
+		reportRangePool.setMaximumPoolSize(properties.reportRange().threads());
+		reportRangePool.setMinimumIdle(0);
+		return new WorkloadRoutingDataSource(
+				Map.of(Workload.OLTP, oltpPool, Workload.BULK, bulkPool, Workload.REPORT_RANGE, reportRangePool));
+	}
+
+	private HikariDataSource createPool(DataSourceProperties dataSourceProperties, Environment environment,
+			String name) {
+		HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+				.type(HikariDataSource.class)
+				.build();
+		Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+		pool.setPoolName(name);
+		return pool;
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.pohribnyi.insurance.bulkhead;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Caps for heavy endpoints. Each bulkhead runs at most {@code threads} jobs and
+ * queues up to {@code queueCapacity} more; anything beyond that is rejected
+ * with 503 and a Retry-After hint. {@code reportRange} runs the id ranges of
+ * reports that are split across connections, each on a connection of its own
+ * pool. {@code bulkPoolSize} sizes the connection pool shared by every other
+ * bulk job, separate from the regular pool: running reports, uploads, bulk
+ * edits, the statistics refresh, archival and drop-directory ingestion.
+ */
+@ConfigurationProperties("insurance.bulkhead")
+public record BulkheadProperties(
+		@DefaultValue("5s") Duration retryAfter,
+		@DefaultValue("8") int bulkPoolSize,
+		@DefaultValue Limits report,
+		@DefaultValue Limits reportRange,
+		@DefaultValue Limits upload,
+		@DefaultValue Limits bulkEdit) {
+
+	public record Limits(
+			@DefaultValue("2") int threads, 
+			@DefaultValue("4") int queueCapacity) {
+	}
+
+}
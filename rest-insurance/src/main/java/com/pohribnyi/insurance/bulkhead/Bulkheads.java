@@ -0,0 +1,17 @@
+package com.pohribnyi.insurance.bulkhead;
+
+/**
+ * Bulkheads for the heavy endpoints, kept off the {@code Executor} bean type so
+ * Spring's own application task executor is still auto-configured.
+ */
+public record Bulkheads(Bulkhead report, Bulkhead reportRange, Bulkhead upload, Bulkhead bulkEdit) implements AutoCloseable {
+
+	@Override
+	public void close() {
+		report.close();
+		reportRange.close();
+		upload.close();
+		bulkEdit.close();
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.pohribnyi.insurance.bulkhead;
+
+/**
+ * Kind of work running on the current thread. {@link WorkloadRoutingDataSource}
+ * uses it to pick the connection pool, so bulk jobs never borrow connections
+ * that interactive requests are waiting for. {@link #REPORT_RANGE} is for the
+ * range workers of a split report: the report itself holds a bulk connection
+ * while it waits for them, so they must not wait for one behind it.
+ */
+public enum Workload {
+
+	OLTP, BULK, REPORT_RANGE;
+
+	private static final ThreadLocal<Workload> CURRENT = ThreadLocal.withInitial(() -> OLTP);
+
+	public static Workload current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Switches the current thread to this workload and returns the previous one,
+	 * which the caller restores with {@code previous.enter()} in a finally block.
+	 */
+	public Workload enter() {
+		Workload previous = CURRENT.get();
+		CURRENT.set(this);
+		return previous;
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.pohribnyi.insurance.bulkhead;
+
+import java.util.Map;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+	private final Map<Workload, HikariDataSource> pools;
+
+	public WorkloadRoutingDataSource(Map<Workload, HikariDataSource> pools) {
+		this.pools = Map.copyOf(pools);
+		setTargetDataSources(Map.copyOf(pools));
+		setDefaultTargetDataSource(pools.get(Workload.OLTP));
+		setLenientFallback(false);
+	}
+
+	public HikariDataSource pool(Workload workload) {
+		return pools.get(workload);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return Workload.current();
+	}
+
+	@Override
+	public void close() {
+		pools.values().forEach(HikariDataSource::close);
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.pohribnyi.insurance.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.pohribnyi.insurance.service.event.InsuranceDataChangedEvent;
+
+/**
+ * In-memory counter of the writes this node committed. It is bumped only once
+ * a write has committed, and readers read it before the data, so a stale
+ * result can never be stored under a newer version. Writes made by other
+ * nodes are not counted.
+ */
+@Component
+public class DataVersionTracker {
+
+	private final AtomicLong version = new AtomicLong();
+
+	public long currentVersion() {
+		return version.get();
+	}
+
+	@TransactionalEventListener
+	public void onDataChanged(InsuranceDataChangedEvent event) {
+		version.incrementAndGet();
+	}
+
+}
@@ -0,0 +1,214 @@
+package com.pohribnyi.insurance.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyPageableResponseDTO;
+import com.pohribnyi.insurance.util.concurrent.SingleFlight;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Caches {@code _list} pages and {@code _report} bodies by normalized filter.
+ * Each entry carries the data version read before it was computed and is
+ * served only while the version is unchanged, so any write committed on this
+ * node retires it. Identical misses at the same version are computed once.
+ * Entries are evicted least recently used first.
+ */
+@Component
+@RequiredArgsConstructor
+public class PolicyResultCache {
+
+	private final ResultCacheProperties properties;
+	private final DataVersionTracker dataVersionTracker;
+
+	private final Map<CacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final SingleFlight<VersionedKey, Object> loads = new SingleFlight<>();
+	private long memoryBytes;
+	private long diskBytes;
+	private Path directory;
+
+	@PostConstruct
+	void createDirectory() throws IOException {
+		if (properties.enabled()) {
+			Path parent = properties.directory() != null
+					? Files.createDirectories(properties.directory())
+					: Path.of(System.getProperty("java.io.tmpdir"));
+			directory = Files.createTempDirectory(parent, "result-cache-");
+		}
+	}
+
+	public PolicyPageableResponseDTO list(PolicyPageableRequestDTO request,
+			Supplier<PolicyPageableResponseDTO> loader) {
+		return (PolicyPageableResponseDTO) get(CacheKey.list(request), loader);
+	}
+
+	public byte[] report(PolicyPageableRequestDTO request, Supplier<byte[]> loader) {
+		return (byte[]) get(CacheKey.report(request), loader);
+	}
+
+	private Object get(CacheKey key, Supplier<?> loader) {
+		if (!properties.enabled()) {
+			return loader.get();
+		}
+		ResultCacheEvent event = new ResultCacheEvent();
+		event.kind = key.kind();
+		event.begin();
+		try {
+			long version = dataVersionTracker.currentVersion();
+			Object cached = lookup(key, version, event);
+			if (cached != null) {
+				event.outcome = ResultCacheEvent.HIT;
+				return cached;
+			}
+			event.outcome = ResultCacheEvent.MISS;
+			return loads.execute(new VersionedKey(key, version), () -> {
+				Object value = loader.get();
+				store(key, version, value);
+				return value;
+			});
+		} finally {
+			event.commit();
+		}
+	}
+
+	private Object lookup(CacheKey key, long version, ResultCacheEvent event) {
+		Entry entry;
+		synchronized (this) {
+			entry = entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.version() != version) {
+				remove(key);
+				return null;
+			}
+		}
+		if (entry.file() == null) {
+			return entry.value();
+		}
+		event.fromDisk = true;
+		try {
+			return Files.readAllBytes(entry.file());
+		} catch (NoSuchFileException e) {
+			// Evicted while we were reading it
+			return null;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void store(CacheKey key, long version, Object value) {
+		Entry entry;
+		if (value instanceof byte[] body && body.length > properties.spillThreshold().toBytes()) {
+			if (body.length > properties.maxDisk().toBytes()) {
+				return;
+			}
+			Path file = directory.resolve(UUID.randomUUID() + ".bin");
+			try {
+				Files.write(file, body);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			entry = new Entry(version, null, file, body.length);
+		} else {
+			entry = new Entry(version, value, null, value instanceof byte[] body ? body.length : 0);
+		}
+
+		synchronized (this) {
+			remove(key);
+			entries.put(key, entry);
+			if (entry.file() != null) {
+				diskBytes += entry.bytes();
+			} else {
+				memoryBytes += entry.bytes();
+			}
+			evict();
+		}
+	}
+
+	private void evict() {
+		Iterator<Entry> eldest = entries.values().iterator();
+		while (eldest.hasNext() && (entries.size() > properties.maxEntries()
+				|| memoryBytes > properties.maxMemory().toBytes() || diskBytes > properties.maxDisk().toBytes())) {
+			release(eldest.next());
+			eldest.remove();
+		}
+	}
+
+	private void remove(CacheKey key) {
+		Entry entry = entries.remove(key);
+		if (entry != null) {
+			release(entry);
+		}
+	}
+
+	private void release(Entry entry) {
+		if (entry.file() == null) {
+			memoryBytes -= entry.bytes();
+			return;
+		}
+		diskBytes -= entry.bytes();
+		try {
+			Files.deleteIfExists(entry.file());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public synchronized void clear() {
+		entries.values().forEach(this::release);
+		entries.clear();
+	}
+
+	@PreDestroy
+	void deleteDirectory() throws IOException {
+		if (directory != null) {
+			clear();
+			Files.deleteIfExists(directory);
+		}
+	}
+
+	/**
+	 * Request fields that affect the result; blank text filters are ignored by
+	 * the queries and therefore normalized away.
+	 */
+	private record CacheKey(String kind, UUID clientId, String policyType, String policyNumber, Integer page,
+			Integer size, boolean includeArchived) {
+
+		static CacheKey list(PolicyPageableRequestDTO request) {
+			return new CacheKey("list", request.clientId(), normalize(request.policyType()),
+					normalize(request.policyNumber()), request.page(), request.size(), request.includeArchived());
+		}
+
+		static CacheKey report(PolicyPageableRequestDTO request) {
+			return new CacheKey("report", request.clientId(), normalize(request.policyType()),
+					normalize(request.policyNumber()), null, null, request.includeArchived());
+		}
+
+		private static String normalize(String value) {
+			return value == null || value.isBlank() ? null : value;
+		}
+
+	}
+
+	private record VersionedKey(CacheKey key, long version) {
+	}
+
+	private record Entry(long version, Object value, Path file, long bytes) {
+	}
+
+}
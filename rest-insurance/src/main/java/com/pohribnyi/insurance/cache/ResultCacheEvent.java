@@ -0,0 +1,32 @@
+package com.pohribnyi.insurance.cache;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("com.pohribnyi.insurance.ResultCache")
+@Label("Result Cache Lookup")
+@Category({ "Insurance", "Cache" })
+@Description("Lookup in the policy result cache, including the load on a miss")
+@StackTrace(false)
+@Threshold("0 ms")
+class ResultCacheEvent extends Event {
+
+	static final String HIT = "hit";
+	static final String MISS = "miss";
+
+	@Label("Kind")
+	String kind;
+
+	@Label("Outcome")
+	@Description("hit or miss")
+	String outcome;
+
+	@Label("From Disk")
+	boolean fromDisk;
+
+}
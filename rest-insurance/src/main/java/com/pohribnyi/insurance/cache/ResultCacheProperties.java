@@ -0,0 +1,25 @@
+package com.pohribnyi.insurance.cache;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Bounds of the versioned result cache. List pages count against
+ * {@code maxEntries} only; report bodies also count against {@code maxMemory},
+ * or against {@code maxDisk} once they are larger than {@code spillThreshold}.
+ * Spilled bodies live in a fresh subdirectory of {@code directory}, the system
+ * temporary directory when unset. Writes made by another node do not retire
+ * entries here, so the cache is meant for single-node deployments.
+ */
+@ConfigurationProperties("insurance.result-cache")
+public record ResultCacheProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("1000") int maxEntries,
+		@DefaultValue("64MB") DataSize maxMemory,
+		@DefaultValue("1MB") DataSize spillThreshold,
+		@DefaultValue("1GB") DataSize maxDisk,
+		Path directory) {
+}
@@ -0,0 +1,46 @@
+package com.pohribnyi.insurance.controller;
+
+import java.time.Duration;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.pohribnyi.insurance.dto.response.change.ChangeFeedResponseDTO;
+import com.pohribnyi.insurance.service.ChangeFeedService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/changes")
+public class ChangeFeedController {
+
+	private final ChangeFeedService changeFeedService;
+
+	/**
+	 * Returns up to {@code limit} events after the {@code after} cursor. With
+	 * {@code wait} > 0 the request is held until events arrive or the wait (in
+	 * seconds) elapses, then answered with an empty batch.
+	 */
+	@GetMapping
+	public DeferredResult<ChangeFeedResponseDTO> pollChanges(
+			@RequestParam(name = "after", required = false) String after,
+			@RequestParam(name = "limit", defaultValue = "500") int limit,
+			@RequestParam(name = "wait", defaultValue = "0") int waitSeconds) {
+		return changeFeedService.poll(after, limit, Duration.ofSeconds(waitSeconds));
+	}
+
+	@GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamChanges(
+			@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId,
+			@RequestParam(name = "after", required = false) String after) {
+		return changeFeedService.stream(lastEventId != null ? lastEventId : after);
+	}
+
+}
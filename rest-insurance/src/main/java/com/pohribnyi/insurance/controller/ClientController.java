@@ -2,6 +2,7 @@ package com.pohribnyi.insurance.controller;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,10 +13,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
+import com.pohribnyi.insurance.bulkhead.Bulkheads;
 import com.pohribnyi.insurance.dto.request.ClientRequestDTO;
+import com.pohribnyi.insurance.dto.response.client.ClientImportResponseDTO;
 import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
+import com.pohribnyi.insurance.service.ClientImportService;
 import com.pohribnyi.insurance.service.ClientService;
 
 import jakarta.validation.Valid;
@@ -27,6 +33,8 @@ import lombok.RequiredArgsConstructor;
 public class ClientController {
 
 	private final ClientService clientService;
+	private final ClientImportService importService;
+	private final Bulkheads bulkheads;
 
 	@GetMapping
 	public ResponseEntity<List<ClientResponseDTO>> getAllClients() {
@@ -51,4 +59,10 @@ public class ClientController {
 		clientService.deleteClient(id);
 		return ResponseEntity.noContent().build();
 	}
+
+	@PostMapping("/upload")
+	public CompletableFuture<ResponseEntity<ClientImportResponseDTO>> uploadClients(
+			@RequestParam("file") MultipartFile file) {
+		return bulkheads.upload().submit(() -> ResponseEntity.ok(importService.importClients(file)));
+	}
 }
\ No newline at end of file
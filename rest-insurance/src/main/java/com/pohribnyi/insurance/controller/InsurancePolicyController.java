@@ -1,7 +1,7 @@
 package com.pohribnyi.insurance.controller;
 
-import java.io.IOException;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -17,15 +17,29 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.pohribnyi.insurance.bulkhead.Bulkheads;
+import com.pohribnyi.insurance.bulkhead.Workload;
+import com.pohribnyi.insurance.dto.request.BulkDeletePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.BulkUpdatePolicyRequestDTO;
 import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
 import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
 import com.pohribnyi.insurance.dto.request.UpdateInsurancePolicyRequestDTO;
 import com.pohribnyi.insurance.dto.response.UploadResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.BulkOperationResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.ClientPolicyStatisticsResponseDTO;
 import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
 import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyPageableResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyStatisticsResponseDTO;
+import com.pohribnyi.insurance.dto.response.upload.UploadChunkResponseDTO;
+import com.pohribnyi.insurance.dto.response.upload.UploadSessionResponseDTO;
+import com.pohribnyi.insurance.service.ExportService;
 import com.pohribnyi.insurance.service.InsurancePolicyService;
+import com.pohribnyi.insurance.service.PolicyBulkService;
+import com.pohribnyi.insurance.service.PolicyStatisticsService;
 import com.pohribnyi.insurance.service.ReportService;
+import com.pohribnyi.insurance.service.ResumableUploadService;
 import com.pohribnyi.insurance.service.UploadService;
 
 import jakarta.validation.Valid;
@@ -37,8 +51,13 @@ import lombok.RequiredArgsConstructor;
 public class InsurancePolicyController {
 
 	private final InsurancePolicyService policyService;
+	private final PolicyBulkService bulkService;
 	private final ReportService reportService;
 	private final UploadService uploadService;
+	private final ResumableUploadService resumableUploadService;
+	private final ExportService exportService;
+	private final PolicyStatisticsService statisticsService;
+	private final Bulkheads bulkheads;
 
 	@PostMapping
 	public ResponseEntity<InsurancePolicyResponseDTO> createPolicy(
@@ -66,6 +85,18 @@ public class InsurancePolicyController {
 		return ResponseEntity.noContent().build();
 	}
 
+	@PostMapping("/_bulkUpdate")
+	public CompletableFuture<ResponseEntity<BulkOperationResponseDTO>> bulkUpdatePolicies(
+			@Valid @RequestBody BulkUpdatePolicyRequestDTO request) {
+		return bulkheads.bulkEdit().submit(() -> ResponseEntity.ok(bulkService.bulkUpdate(request)));
+	}
+
+	@PostMapping("/_bulkDelete")
+	public CompletableFuture<ResponseEntity<BulkOperationResponseDTO>> bulkDeletePolicies(
+			@Valid @RequestBody BulkDeletePolicyRequestDTO request) {
+		return bulkheads.bulkEdit().submit(() -> ResponseEntity.ok(bulkService.bulkDelete(request)));
+	}
+
 	@PostMapping("/_list")
 	public ResponseEntity<PolicyPageableResponseDTO> listPolicies(@Valid @RequestBody PolicyPageableRequestDTO request) {
 		PolicyPageableResponseDTO response = policyService.getPolicies(request);
@@ -73,21 +104,73 @@ public class InsurancePolicyController {
 	}
 
 	@PostMapping("/_report")
-	public ResponseEntity<byte[]> generateReport(@Valid @RequestBody PolicyPageableRequestDTO request) throws IOException {
-		byte[] report = reportService.generateCsvReport(request);
+	public CompletableFuture<ResponseEntity<byte[]>> generateReport(
+			@Valid @RequestBody PolicyPageableRequestDTO request) {
+		return bulkheads.report().submit(() -> {
+			byte[] report = reportService.generateCsvReport(request);
+
+			HttpHeaders headers = new HttpHeaders();
+			headers.setContentType(MediaType.parseMediaType("text/csv"));
+			headers.setContentDispositionFormData("attachment", "insurance_policies_report.csv");
 
+			return ResponseEntity.ok().headers(headers).body(report);
+		});
+	}
+
+	@PostMapping("/_export")
+	public ResponseEntity<StreamingResponseBody> exportPolicies(@Valid @RequestBody PolicyPageableRequestDTO request) {
 		HttpHeaders headers = new HttpHeaders();
-		headers.setContentType(MediaType.parseMediaType("text/csv"));
-		headers.setContentDispositionFormData("attachment", "insurance_policies_report.csv");
+		headers.setContentType(MediaType.APPLICATION_NDJSON);
+		headers.setContentDispositionFormData("attachment", "insurance_policies_export.ndjson");
+
+		StreamingResponseBody body = out -> {
+			Workload previous = Workload.BULK.enter();
+			try {
+				exportService.exportNdjson(request, out);
+			} finally {
+				previous.enter();
+			}
+		};
+		return ResponseEntity.ok().headers(headers).body(body);
+	}
+
+	@GetMapping("/_statistics")
+	public ResponseEntity<PolicyStatisticsResponseDTO> getStatistics() {
+		return ResponseEntity.ok(statisticsService.getStatistics());
+	}
 
-		return ResponseEntity.ok().headers(headers).body(report);
+	@GetMapping("/_statistics/client/{clientId}")
+	public ResponseEntity<ClientPolicyStatisticsResponseDTO> getClientStatistics(
+			@PathVariable("clientId") UUID clientId) {
+		return ResponseEntity.ok(statisticsService.getClientStatistics(clientId));
 	}
 
 	@PostMapping("/upload")
-	public ResponseEntity<UploadResponseDTO> uploadPolicies(@RequestParam("file") MultipartFile file)
-			throws IOException {
-		UploadResponseDTO response = uploadService.uploadPolicies(file);
-		return ResponseEntity.ok(response);
+	public CompletableFuture<ResponseEntity<UploadResponseDTO>> uploadPolicies(
+			@RequestParam("file") MultipartFile file) {
+		return bulkheads.upload().submit(() -> ResponseEntity.ok(uploadService.uploadPolicies(file)));
+	}
+
+	@PostMapping("/upload/sessions")
+	public ResponseEntity<UploadSessionResponseDTO> createUploadSession() {
+		return ResponseEntity.status(HttpStatus.CREATED).body(resumableUploadService.createSession());
+	}
+
+	@GetMapping("/upload/sessions/{id}")
+	public ResponseEntity<UploadSessionResponseDTO> getUploadSession(@PathVariable("id") UUID id) {
+		return ResponseEntity.ok(resumableUploadService.getSession(id));
+	}
+
+	@PutMapping("/upload/sessions/{id}/chunks/{chunk}")
+	public CompletableFuture<ResponseEntity<UploadChunkResponseDTO>> uploadChunk(@PathVariable("id") UUID id,
+			@PathVariable("chunk") int chunk, @RequestParam("file") MultipartFile file) {
+		return bulkheads.upload()
+				.submit(() -> ResponseEntity.ok(resumableUploadService.uploadChunk(id, chunk, file)));
+	}
+
+	@PostMapping("/upload/sessions/{id}/_complete")
+	public ResponseEntity<UploadSessionResponseDTO> completeUploadSession(@PathVariable("id") UUID id) {
+		return ResponseEntity.ok(resumableUploadService.completeSession(id));
 	}
 
 }
@@ -0,0 +1,20 @@
+package com.pohribnyi.insurance.dto.request;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Selects policies either by {@code ids} or by {@code filter} (paging fields
+ * and {@code includeArchived} are ignored) for deletion.
+ */
+public record BulkDeletePolicyRequestDTO(
+
+		@Size(max = 10_000, message = "At most 10000 ids can be deleted per request")
+		List<UUID> ids,
+
+		@Valid 
+		PolicyPageableRequestDTO filter) {
+}
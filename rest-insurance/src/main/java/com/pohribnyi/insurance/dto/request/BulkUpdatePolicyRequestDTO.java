@@ -0,0 +1,31 @@
+package com.pohribnyi.insurance.dto.request;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Selects policies either by {@code ids} or by {@code filter} (paging fields
+ * and {@code includeArchived} are ignored) and sets the given fields on all of
+ * them. Fields left null are not changed.
+ */
+public record BulkUpdatePolicyRequestDTO(
+
+		@Size(max = 10_000, message = "At most 10000 ids can be updated per request")
+		List<UUID> ids,
+
+		@Valid 
+		PolicyPageableRequestDTO filter,
+
+		@Size(max = 100, message = "Policy type must not exceed 100 characters") 
+		@Pattern(regexp = ".*\\S.*", message = "Policy type must not be blank")
+		String policyType,
+
+		@Future(message = "End date should be in the future") 
+		LocalDate endDate) {
+}
@@ -1,6 +1,7 @@
 package com.pohribnyi.insurance.dto.request;
 
 import java.time.LocalDate;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.UUID;
 
@@ -44,7 +45,7 @@ public record CreateInsurancePolicyRequestDTO(
 				.policyType(policyType)
 				.startDate(startDate)
 				.endDate(endDate)
-				.coveredRisks(coveredRisks)
+				.coveredRisks(new LinkedHashSet<>(coveredRisks))
 				.client(client)
 				.build();
 	}
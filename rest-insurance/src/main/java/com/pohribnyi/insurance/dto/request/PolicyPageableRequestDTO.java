@@ -14,7 +14,9 @@ public record PolicyPageableRequestDTO(
 		Integer page,
 
 		@Positive(message = "Size must be positive") 
-		Integer size) {
+		Integer size,
+
+		boolean includeArchived) {
 	
 	public PolicyPageableRequestDTO {
 		if (page == null)
@@ -22,5 +24,10 @@ public record PolicyPageableRequestDTO(
 		if (size == null)
 			size = 20;
 	}
+
+	public PolicyPageableRequestDTO(UUID clientId, String policyType, String policyNumber, Integer page,
+			Integer size) {
+		this(clientId, policyType, policyNumber, page, size, false);
+	}
 	
 }
@@ -0,0 +1,15 @@
+package com.pohribnyi.insurance.dto.response.change;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.pohribnyi.insurance.model.change.ChangeEntityType;
+import com.pohribnyi.insurance.model.change.ChangeOperation;
+
+public record ChangeEventResponseDTO(
+		String cursor, 
+		ChangeEntityType entityType, 
+		UUID entityId, 
+		ChangeOperation operation,
+		LocalDateTime occurredAt) {
+}
@@ -0,0 +1,9 @@
+package com.pohribnyi.insurance.dto.response.change;
+
+import java.util.List;
+
+/**
+ * One batch of the change feed; {@code next} is the cursor to resume from.
+ */
+public record ChangeFeedResponseDTO(List<ChangeEventResponseDTO> events, String next) {
+}
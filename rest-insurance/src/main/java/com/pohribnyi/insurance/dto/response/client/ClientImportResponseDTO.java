@@ -0,0 +1,16 @@
+package com.pohribnyi.insurance.dto.response.client;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Result of a bulk client import. {@code createdIds} maps the email of every
+ * created client to its id; duplicates are rows whose email already existed
+ * or appeared earlier in the same file.
+ */
+public record ClientImportResponseDTO(
+		int createdCount, 
+		int duplicateCount, 
+		int failureCount,
+		Map<String, UUID> createdIds) {
+}
@@ -0,0 +1,4 @@
+package com.pohribnyi.insurance.dto.response.insurancePolicy;
+
+public record BulkOperationResponseDTO(int affectedCount) {
+}
@@ -0,0 +1,15 @@
+package com.pohribnyi.insurance.dto.response.insurancePolicy;
+
+import java.util.UUID;
+
+public record ClientPolicyStatisticsResponseDTO(
+		UUID clientId, 
+		long totalCount, 
+		long activeCount, 
+		long expiredCount) {
+	
+	public static ClientPolicyStatisticsResponseDTO empty(UUID clientId) {
+		return new ClientPolicyStatisticsResponseDTO(clientId, 0, 0, 0);
+	}
+	
+}
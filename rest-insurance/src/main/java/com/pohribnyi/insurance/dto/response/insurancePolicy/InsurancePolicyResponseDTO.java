@@ -6,6 +6,7 @@ import java.util.UUID;
 
 import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
 import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.model.entity.PolicyDetails;
 
 public record InsurancePolicyResponseDTO(
 		UUID id, 
@@ -17,13 +18,17 @@ public record InsurancePolicyResponseDTO(
 		ClientResponseDTO client) 
 {
 	public static InsurancePolicyResponseDTO fromEntity(InsurancePolicy policy) {
+		return fromEntity(policy, List.copyOf(policy.getCoveredRisks()));
+	}
+	
+	public static InsurancePolicyResponseDTO fromEntity(PolicyDetails policy, List<String> coveredRisks) {
 		return new InsurancePolicyResponseDTO(
 				policy.getId(), 
 				policy.getPolicyNumber(), 
 				policy.getPolicyType(),
 				policy.getStartDate(), 
 				policy.getEndDate(), 
-				policy.getCoveredRisks(),
+				coveredRisks,
 				ClientResponseDTO.fromEntity(policy.getClient()));
 	}
 	
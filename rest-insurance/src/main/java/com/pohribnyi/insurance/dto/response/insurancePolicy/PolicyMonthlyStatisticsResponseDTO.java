@@ -0,0 +1,9 @@
+package com.pohribnyi.insurance.dto.response.insurancePolicy;
+
+import java.time.LocalDate;
+
+public record PolicyMonthlyStatisticsResponseDTO(
+		LocalDate month, 
+		long startedCount, 
+		long expiringCount) {
+}
@@ -0,0 +1,28 @@
+package com.pohribnyi.insurance.dto.response.insurancePolicy;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record PolicyReportRowResponseDTO(
+		UUID id,
+		String policyNumber,
+		String policyType,
+		LocalDate startDate,
+		LocalDate endDate,
+		String clientFirstName,
+		String clientLastName,
+		String clientEmail) {
+
+	public String[] toCsvRow() {
+		return new String[] {
+				id.toString(),
+				policyNumber,
+				policyType,
+				startDate.toString(),
+				endDate.toString(),
+				clientFirstName + " " + clientLastName,
+				clientEmail
+		};
+	}
+
+}
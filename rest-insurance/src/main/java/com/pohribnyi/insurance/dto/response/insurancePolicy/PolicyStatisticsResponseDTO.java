@@ -0,0 +1,25 @@
+package com.pohribnyi.insurance.dto.response.insurancePolicy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PolicyStatisticsResponseDTO(
+		long totalCount, 
+		long activeCount, 
+		long expiredCount,
+		List<PolicyTypeStatisticsResponseDTO> byType,
+		List<PolicyMonthlyStatisticsResponseDTO> byMonth,
+		LocalDateTime refreshedAt) {
+	
+	public static PolicyStatisticsResponseDTO of(List<PolicyTypeStatisticsResponseDTO> byType,
+			List<PolicyMonthlyStatisticsResponseDTO> byMonth, LocalDateTime refreshedAt) {
+		return new PolicyStatisticsResponseDTO(
+				byType.stream().mapToLong(PolicyTypeStatisticsResponseDTO::totalCount).sum(),
+				byType.stream().mapToLong(PolicyTypeStatisticsResponseDTO::activeCount).sum(),
+				byType.stream().mapToLong(PolicyTypeStatisticsResponseDTO::expiredCount).sum(),
+				byType,
+				byMonth,
+				refreshedAt);
+	}
+	
+}
@@ -3,7 +3,7 @@ package com.pohribnyi.insurance.dto.response.insurancePolicy;
 import java.time.LocalDate;
 import java.util.UUID;
 
-import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.model.entity.PolicyDetails;
 
 public record PolicySummaryResponseDTO(
 		UUID id, 
@@ -12,7 +12,7 @@ public record PolicySummaryResponseDTO(
 		LocalDate startDate,
 		LocalDate endDate) {
 	
-	public static PolicySummaryResponseDTO fromEntity(InsurancePolicy policy) {
+	public static PolicySummaryResponseDTO fromEntity(PolicyDetails policy) {
 		return new PolicySummaryResponseDTO(
 				policy.getId(), 
 				policy.getPolicyNumber(), 
@@ -0,0 +1,8 @@
+package com.pohribnyi.insurance.dto.response.insurancePolicy;
+
+public record PolicyTypeStatisticsResponseDTO(
+		String policyType, 
+		long totalCount, 
+		long activeCount, 
+		long expiredCount) {
+}
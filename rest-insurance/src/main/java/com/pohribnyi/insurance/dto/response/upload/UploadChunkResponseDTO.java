@@ -0,0 +1,9 @@
+package com.pohribnyi.insurance.dto.response.upload;
+
+/**
+ * Outcome of one committed chunk. Resending a committed chunk returns the
+ * same outcome with {@code replayed} set and changes nothing.
+ */
+public record UploadChunkResponseDTO(int chunk, int successCount, int failureCount, int nextChunk,
+		boolean replayed) {
+}
@@ -0,0 +1,11 @@
+package com.pohribnyi.insurance.dto.response.upload;
+
+import java.util.UUID;
+
+/**
+ * State of a resumable upload; {@code nextChunk} is the index to send next,
+ * every lower chunk is committed.
+ */
+public record UploadSessionResponseDTO(UUID id, int nextChunk, long successCount, long failureCount,
+		boolean completed) {
+}
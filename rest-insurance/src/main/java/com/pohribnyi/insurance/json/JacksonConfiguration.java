@@ -0,0 +1,41 @@
+package com.pohribnyi.insurance.json;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Registers Blackbird, which replaces reflective property access with
+ * generated lambdas, and Smile/CBOR converters for internal callers that send
+ * {@code Accept: application/x-jackson-smile} or {@code application/cbor}.
+ * The binary converters are built from the same builder as the JSON mapper,
+ * so they share its modules and serializers.
+ */
+@Configuration(proxyBeanMethods = false)
+public class JacksonConfiguration {
+
+	@Bean
+	public Module blackbirdModule() {
+		return new BlackbirdModule();
+	}
+
+	@Bean
+	public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+			Jackson2ObjectMapperBuilder objectMapperBuilder) {
+		return new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(new SmileFactory()).build());
+	}
+
+	@Bean
+	public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+			Jackson2ObjectMapperBuilder objectMapperBuilder) {
+		return new MappingJackson2CborHttpMessageConverter(objectMapperBuilder.factory(new CBORFactory()).build());
+	}
+
+}
@@ -0,0 +1,154 @@
+package com.pohribnyi.insurance.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.jackson.JsonComponent;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicySummaryResponseDTO;
+
+/**
+ * Hand-written serializers for the responses that go out in bulk. Output is
+ * the same as Jackson's default for these records: properties in component
+ * order, nulls included, dates as ISO strings and UUIDs as strings in JSON
+ * (16 raw bytes in Smile/CBOR, as Jackson's own UUID serializer does).
+ */
+@JsonComponent
+public class PolicyResponseSerializers {
+
+	private static final SerializableString ID = new SerializedString("id");
+	private static final SerializableString POLICY_NUMBER = new SerializedString("policyNumber");
+	private static final SerializableString POLICY_TYPE = new SerializedString("policyType");
+	private static final SerializableString START_DATE = new SerializedString("startDate");
+	private static final SerializableString END_DATE = new SerializedString("endDate");
+	private static final SerializableString COVERED_RISKS = new SerializedString("coveredRisks");
+	private static final SerializableString CLIENT = new SerializedString("client");
+	private static final SerializableString FIRST_NAME = new SerializedString("firstName");
+	private static final SerializableString LAST_NAME = new SerializedString("lastName");
+	private static final SerializableString EMAIL = new SerializedString("email");
+
+	public static class PolicySummarySerializer extends StdSerializer<PolicySummaryResponseDTO> {
+
+		public PolicySummarySerializer() {
+			super(PolicySummaryResponseDTO.class);
+		}
+
+		@Override
+		public void serialize(PolicySummaryResponseDTO value, JsonGenerator gen, SerializerProvider provider)
+				throws IOException {
+			gen.writeStartObject(value);
+			writeUuid(gen, ID, value.id());
+			writeString(gen, POLICY_NUMBER, value.policyNumber());
+			writeString(gen, POLICY_TYPE, value.policyType());
+			writeDate(gen, START_DATE, value.startDate());
+			writeDate(gen, END_DATE, value.endDate());
+			gen.writeEndObject();
+		}
+
+	}
+
+	public static class InsurancePolicySerializer extends StdSerializer<InsurancePolicyResponseDTO> {
+
+		public InsurancePolicySerializer() {
+			super(InsurancePolicyResponseDTO.class);
+		}
+
+		@Override
+		public void serialize(InsurancePolicyResponseDTO value, JsonGenerator gen, SerializerProvider provider)
+				throws IOException {
+			gen.writeStartObject(value);
+			writeUuid(gen, ID, value.id());
+			writeString(gen, POLICY_NUMBER, value.policyNumber());
+			writeString(gen, POLICY_TYPE, value.policyType());
+			writeDate(gen, START_DATE, value.startDate());
+			writeDate(gen, END_DATE, value.endDate());
+			writeStrings(gen, COVERED_RISKS, value.coveredRisks());
+			gen.writeFieldName(CLIENT);
+			writeClient(gen, value.client());
+			gen.writeEndObject();
+		}
+
+	}
+
+	public static class ClientSerializer extends StdSerializer<ClientResponseDTO> {
+
+		public ClientSerializer() {
+			super(ClientResponseDTO.class);
+		}
+
+		@Override
+		public void serialize(ClientResponseDTO value, JsonGenerator gen, SerializerProvider provider)
+				throws IOException {
+			writeClient(gen, value);
+		}
+
+	}
+
+	private static void writeClient(JsonGenerator gen, ClientResponseDTO client) throws IOException {
+		if (client == null) {
+			gen.writeNull();
+			return;
+		}
+		gen.writeStartObject(client);
+		writeUuid(gen, ID, client.id());
+		writeString(gen, FIRST_NAME, client.firstName());
+		writeString(gen, LAST_NAME, client.lastName());
+		writeString(gen, EMAIL, client.email());
+		gen.writeEndObject();
+	}
+
+	private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+		gen.writeFieldName(name);
+		gen.writeString(value);
+	}
+
+	private static void writeDate(JsonGenerator gen, SerializableString name, LocalDate value) throws IOException {
+		gen.writeFieldName(name);
+		if (value == null) {
+			gen.writeNull();
+		} else {
+			gen.writeString(value.toString());
+		}
+	}
+
+	private static void writeUuid(JsonGenerator gen, SerializableString name, UUID value) throws IOException {
+		gen.writeFieldName(name);
+		if (value == null) {
+			gen.writeNull();
+		} else if (gen.canWriteBinaryNatively() && !(gen instanceof TokenBuffer)) {
+			byte[] bytes = ByteBuffer.allocate(16)
+					.putLong(value.getMostSignificantBits())
+					.putLong(value.getLeastSignificantBits())
+					.array();
+			gen.writeBinary(bytes);
+		} else {
+			gen.writeString(value.toString());
+		}
+	}
+
+	private static void writeStrings(JsonGenerator gen, SerializableString name, List<String> values)
+			throws IOException {
+		gen.writeFieldName(name);
+		if (values == null) {
+			gen.writeNull();
+			return;
+		}
+		gen.writeStartArray(values, values.size());
+		for (String value : values) {
+			gen.writeString(value);
+		}
+		gen.writeEndArray();
+	}
+
+}
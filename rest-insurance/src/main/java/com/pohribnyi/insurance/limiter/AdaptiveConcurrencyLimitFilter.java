@@ -0,0 +1,135 @@
+package com.pohribnyi.insurance.limiter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pohribnyi.insurance.dto.response.ErrorResponseDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Sheds requests with 503 once a route group has as many requests in flight
+ * as its {@link GradientLimit} allows. Reports, uploads, upload chunks,
+ * exports and bulk edits are left to their bulkheads: they complete
+ * asynchronously, so their latency is not visible here.
+ */
+public class AdaptiveConcurrencyLimitFilter extends OncePerRequestFilter {
+
+	private static final String POLICY_PATH = "/api/insurance_policy";
+	private static final String CLIENT_PATH = "/api/client";
+	private static final Set<String> BULKHEAD_ROUTES = Set.of("_report", "_export", "upload", "_bulkUpdate",
+			"_bulkDelete");
+	private static final String UPLOAD_CHUNK_PATH = "/chunks/";
+
+	private final ConcurrencyLimitProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final ObjectMapper objectMapper;
+	private final Map<String, GradientLimit> limits = new ConcurrentHashMap<>();
+	private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+
+	public AdaptiveConcurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry,
+			ObjectMapper objectMapper) {
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		String group = routeGroup(request);
+		if (group == null) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		GradientLimit limit = limit(group);
+		if (!limit.tryAcquire()) {
+			rejections.get(group).increment();
+			reject(request, response);
+			return;
+		}
+
+		long startedAt = System.nanoTime();
+		boolean failed = true;
+		try {
+			chain.doFilter(request, response);
+			failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+		} finally {
+			limit.release(request.isAsyncStarted() ? -1 : System.nanoTime() - startedAt, failed);
+		}
+	}
+
+	public GradientLimit limit(String group) {
+		return limits.computeIfAbsent(group, this::register);
+	}
+
+	private GradientLimit register(String group) {
+		GradientLimit limit = new GradientLimit(properties.initialLimit(), properties.minLimit(),
+				properties.maxLimit(), properties.tolerance());
+		Gauge.builder("insurance.concurrency.limit", limit, GradientLimit::getLimit)
+				.description("Current adaptive concurrency limit")
+				.tag("group", group)
+				.register(meterRegistry);
+		Gauge.builder("insurance.concurrency.in_flight", limit, GradientLimit::getInFlight)
+				.description("Requests currently admitted")
+				.tag("group", group)
+				.register(meterRegistry);
+		rejections.put(group, Counter.builder("insurance.concurrency.rejected")
+				.description("Requests shed because the limit was reached")
+				.tag("group", group)
+				.register(meterRegistry));
+		return limit;
+	}
+
+	private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		ErrorResponseDTO error = new ErrorResponseDTO(
+				LocalDateTime.now(), 
+				HttpStatus.SERVICE_UNAVAILABLE.value(), 
+				"Service Unavailable",
+				"Server is overloaded, please retry later", 
+				request.getRequestURI(), 
+				null);
+
+		response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.retryAfter().toSeconds()));
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		objectMapper.writeValue(response.getOutputStream(), error);
+	}
+
+	static String routeGroup(HttpServletRequest request) {
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		String resource;
+		if (path.startsWith(POLICY_PATH)) {
+			resource = "policy";
+		} else if (path.startsWith(CLIENT_PATH)) {
+			resource = "client";
+		} else {
+			return null;
+		}
+
+		String lastSegment = path.substring(path.lastIndexOf('/') + 1);
+		if (BULKHEAD_ROUTES.contains(lastSegment) || path.contains(UPLOAD_CHUNK_PATH)) {
+			return null;
+		}
+		boolean read = HttpMethod.GET.matches(request.getMethod()) || lastSegment.equals("_list");
+		return resource + (read ? "-read" : "-write");
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.pohribnyi.insurance.limiter;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(name = "insurance.concurrency-limit.enabled", matchIfMissing = true)
+public class ConcurrencyLimitConfiguration {
+
+	@Bean
+	public AdaptiveConcurrencyLimitFilter adaptiveConcurrencyLimitFilter(ConcurrencyLimitProperties properties,
+			MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+		return new AdaptiveConcurrencyLimitFilter(properties, meterRegistry, objectMapper);
+	}
+
+	@Bean
+	public FilterRegistrationBean<AdaptiveConcurrencyLimitFilter> adaptiveConcurrencyLimitFilterRegistration(
+			AdaptiveConcurrencyLimitFilter filter) {
+		FilterRegistrationBean<AdaptiveConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+		registration.addUrlPatterns("/api/*");
+		// Shed before anything reads the request body
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+		return registration;
+	}
+
+}
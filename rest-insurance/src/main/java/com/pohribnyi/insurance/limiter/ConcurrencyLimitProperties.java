@@ -0,0 +1,20 @@
+package com.pohribnyi.insurance.limiter;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings shared by every route group; each group adapts its own limit
+ * between {@code minLimit} and {@code maxLimit}.
+ */
+@ConfigurationProperties("insurance.concurrency-limit")
+public record ConcurrencyLimitProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("20") int initialLimit,
+		@DefaultValue("4") int minLimit,
+		@DefaultValue("200") int maxLimit,
+		@DefaultValue("1.5") double tolerance,
+		@DefaultValue("1s") Duration retryAfter) {
+}
@@ -0,0 +1,80 @@
+package com.pohribnyi.insurance.limiter;
+
+/**
+ * Latency-driven concurrency limit for one route group. A slow moving average
+ * of response time serves as the no-load baseline; when fresh samples get
+ * slower than {@code tolerance} times that baseline the limit shrinks in
+ * proportion, otherwise it grows by roughly the square root of itself. Failed
+ * requests (5xx) cut the limit multiplicatively.
+ */
+public class GradientLimit {
+
+	private static final double SMOOTHING = 0.2;
+	private static final double BACKOFF_RATIO = 0.9;
+	private static final int BASELINE_WINDOW = 600;
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final double tolerance;
+
+	private double limit;
+	private double baselineRttNanos;
+	private int inFlight;
+
+	public GradientLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.tolerance = tolerance;
+		this.limit = initialLimit;
+	}
+
+	public synchronized boolean tryAcquire() {
+		if (inFlight >= (int) limit) {
+			return false;
+		}
+		inFlight++;
+		return true;
+	}
+
+	/**
+	 * Returns a permit taken by {@link #tryAcquire()} and feeds the observed
+	 * latency into the limit. Pass a negative {@code rttNanos} to release
+	 * without a sample.
+	 */
+	public synchronized void release(long rttNanos, boolean failed) {
+		int concurrent = inFlight--;
+		if (failed) {
+			limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+		} else if (rttNanos > 0) {
+			onSample(rttNanos, concurrent);
+		}
+	}
+
+	private void onSample(long rttNanos, int concurrent) {
+		if (baselineRttNanos == 0) {
+			baselineRttNanos = rttNanos;
+		} else {
+			baselineRttNanos += (rttNanos - baselineRttNanos) / BASELINE_WINDOW;
+		}
+		// The baseline lags behind a recovery; let it catch up quickly once latency drops again
+		if (baselineRttNanos > rttNanos * 2) {
+			baselineRttNanos *= 0.95;
+		}
+		// With little load the samples say nothing about how much more the service can take
+		if (concurrent < limit / 2) {
+			return;
+		}
+		double gradient = Math.max(0.5, Math.min(1.0, tolerance * baselineRttNanos / rttNanos));
+		double target = limit * gradient + Math.sqrt(limit);
+		limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+	}
+
+	public synchronized int getLimit() {
+		return (int) limit;
+	}
+
+	public synchronized int getInFlight() {
+		return inFlight;
+	}
+
+}
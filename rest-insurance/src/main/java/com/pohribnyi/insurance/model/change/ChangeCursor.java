@@ -0,0 +1,36 @@
+package com.pohribnyi.insurance.model.change;
+
+import com.pohribnyi.insurance.util.exception.ValidationException;
+
+/**
+ * Position in the change feed: the id of the transaction that wrote the event
+ * and the event id. Rendered as {@code "<txid>-<id>"}; clients treat it as an
+ * opaque token.
+ */
+public record ChangeCursor(long txid, long id) {
+
+	public static final ChangeCursor START = new ChangeCursor(0, 0);
+
+	public static ChangeCursor parse(String value) {
+		if (value == null || value.isBlank()) {
+			return START;
+		}
+		int separator = value.indexOf('-');
+		try {
+			if (separator < 0) {
+				throw new NumberFormatException();
+			}
+			return new ChangeCursor(
+					Long.parseLong(value.substring(0, separator)),
+					Long.parseLong(value.substring(separator + 1)));
+		} catch (NumberFormatException e) {
+			throw new ValidationException("Invalid change feed cursor: " + value, e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return txid + "-" + id;
+	}
+
+}
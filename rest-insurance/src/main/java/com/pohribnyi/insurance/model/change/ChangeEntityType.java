@@ -0,0 +1,5 @@
+package com.pohribnyi.insurance.model.change;
+
+public enum ChangeEntityType {
+	CLIENT, POLICY
+}
@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -14,11 +13,15 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 @Entity
-@Data
+@Getter
+@Setter
+@ToString
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
@@ -36,8 +39,26 @@ public class Client {
 	@Column(nullable = false, unique = true)
 	private String email;
 
-	@OneToMany(mappedBy = "client", cascade = CascadeType.ALL, orphanRemoval = true)
+	@OneToMany(mappedBy = "client")
+	@ToString.Exclude
 	@Builder.Default
 	private List<InsurancePolicy> insurancePolicies = new ArrayList<>();
 
+	@Override
+	public final boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || EntityClasses.effectiveClass(this) != EntityClasses.effectiveClass(o)) {
+			return false;
+		}
+		Client other = (Client) o;
+		return getId() != null && getId().equals(other.getId());
+	}
+
+	@Override
+	public final int hashCode() {
+		return EntityClasses.effectiveClass(this).hashCode();
+	}
+
 }
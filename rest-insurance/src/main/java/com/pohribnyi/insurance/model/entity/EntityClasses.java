@@ -0,0 +1,19 @@
+package com.pohribnyi.insurance.model.entity;
+
+import org.hibernate.proxy.HibernateProxy;
+
+final class EntityClasses {
+
+	private EntityClasses() {
+	}
+
+	/**
+	 * Resolves the entity class without initializing a Hibernate proxy.
+	 */
+	static Class<?> effectiveClass(Object entity) {
+		return entity instanceof HibernateProxy proxy
+				? proxy.getHibernateLazyInitializer().getPersistentClass()
+				: entity.getClass();
+	}
+
+}
@@ -1,7 +1,8 @@
 package com.pohribnyi.insurance.model.entity;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.UUID;
 
 import jakarta.persistence.CollectionTable;
@@ -14,19 +15,29 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 @Entity
 @Table(name = "Insurance_policies")
-@Data
+@DynamicUpdate
+@Getter
+@Setter
+@ToString
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class InsurancePolicy {
+public class InsurancePolicy implements PolicyDetails {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.UUID)
@@ -40,12 +51,44 @@ public class InsurancePolicy {
 
 	private LocalDate endDate;
 
+	/**
+	 * A set rather than a bag, so an update deletes and inserts only the risks
+	 * that changed. Risks are read back in alphabetical order, and a risk
+	 * repeated in a request is stored once.
+	 */
 	@ElementCollection
 	@CollectionTable(name = "policy_covered_risks", joinColumns = @JoinColumn(name = "policy_id"))
-	private List<String> coveredRisks;
+	@OrderBy
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	@ToString.Exclude
+	@Builder.Default
+	private Set<String> coveredRisks = new LinkedHashSet<>();
 
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "client_id", nullable = false)
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	@ToString.Exclude
 	private Client client;
 
+	/**
+	 * Identity is the database id only, so equality and hashing never touch lazy
+	 * associations and stay stable for Hibernate proxies.
+	 */
+	@Override
+	public final boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || EntityClasses.effectiveClass(this) != EntityClasses.effectiveClass(o)) {
+			return false;
+		}
+		InsurancePolicy other = (InsurancePolicy) o;
+		return getId() != null && getId().equals(other.getId());
+	}
+
+	@Override
+	public final int hashCode() {
+		return EntityClasses.effectiveClass(this).hashCode();
+	}
+
 }
@@ -0,0 +1,76 @@
+package com.pohribnyi.insurance.model.entity;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Read-only view of every policy, current or archived, over the
+ * {@code insurance_policies_all} and {@code policy_covered_risks_all} views.
+ * Lists and exports that ask for archived policies go through it; everything
+ * else, writes included, goes through {@link InsurancePolicy}.
+ */
+@Entity
+@Immutable
+@Table(name = "insurance_policies_all")
+@Getter
+@ToString
+@NoArgsConstructor
+public class InsurancePolicyRecord implements PolicyDetails {
+
+	@Id
+	private UUID id;
+
+	private String policyNumber;
+
+	private String policyType;
+
+	private LocalDate startDate;
+
+	private LocalDate endDate;
+
+	@ElementCollection
+	@CollectionTable(name = "policy_covered_risks_all", joinColumns = @JoinColumn(name = "policy_id"))
+	@OrderBy
+	@ToString.Exclude
+	private Set<String> coveredRisks = new LinkedHashSet<>();
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "client_id")
+	@ToString.Exclude
+	private Client client;
+
+	@Override
+	public final boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || EntityClasses.effectiveClass(this) != EntityClasses.effectiveClass(o)) {
+			return false;
+		}
+		InsurancePolicyRecord other = (InsurancePolicyRecord) o;
+		return getId() != null && getId().equals(other.getId());
+	}
+
+	@Override
+	public final int hashCode() {
+		return EntityClasses.effectiveClass(this).hashCode();
+	}
+
+}
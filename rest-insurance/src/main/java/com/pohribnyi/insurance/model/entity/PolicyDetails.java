@@ -0,0 +1,24 @@
+package com.pohribnyi.insurance.model.entity;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Columns shared by {@link InsurancePolicy} and {@link InsurancePolicyRecord},
+ * so reads can map either one to the same responses.
+ */
+public interface PolicyDetails {
+
+	UUID getId();
+
+	String getPolicyNumber();
+
+	String getPolicyType();
+
+	LocalDate getStartDate();
+
+	LocalDate getEndDate();
+
+	Client getClient();
+
+}
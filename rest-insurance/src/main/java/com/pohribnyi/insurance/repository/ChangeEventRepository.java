@@ -0,0 +1,64 @@
+package com.pohribnyi.insurance.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.pohribnyi.insurance.dto.response.change.ChangeEventResponseDTO;
+import com.pohribnyi.insurance.model.change.ChangeCursor;
+import com.pohribnyi.insurance.model.change.ChangeEntityType;
+import com.pohribnyi.insurance.model.change.ChangeOperation;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes and reads the {@code change_events} outbox created in
+ * {@code 005-create-change-events.sql}. Inserts join the caller's transaction,
+ * so an event exists exactly when the change it describes was committed.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChangeEventRepository {
+
+	/**
+	 * Events are ordered by writing transaction, then id, and only returned
+	 * once no transaction older than the snapshot's xmin is still running:
+	 * anything committed later sorts after what has already been served.
+	 */
+	private static final String FIND_AFTER = """
+			SELECT id, txid::text::bigint AS txid, entity_type, entity_id, operation, occurred_at
+			FROM change_events
+			WHERE (txid, id) > (?::text::xid8, ?)
+			  AND txid < pg_snapshot_xmin(pg_current_snapshot())
+			ORDER BY txid, id
+			LIMIT ?""";
+
+	private static final RowMapper<ChangeEventResponseDTO> ROW_MAPPER = (rs, rowNum) -> new ChangeEventResponseDTO(
+			new ChangeCursor(rs.getLong("txid"), rs.getLong("id")).toString(),
+			ChangeEntityType.valueOf(rs.getString("entity_type")),
+			rs.getObject("entity_id", UUID.class),
+			ChangeOperation.valueOf(rs.getString("operation")),
+			rs.getTimestamp("occurred_at").toLocalDateTime());
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void record(ChangeEntityType entityType, ChangeOperation operation, UUID entityId) {
+		jdbcTemplate.update("INSERT INTO change_events (entity_type, entity_id, operation) VALUES (?, ?, ?)",
+				entityType.name(), 
+				entityId, 
+				operation.name());
+	}
+
+	public List<ChangeEventResponseDTO> findAfter(ChangeCursor cursor, int limit) {
+		return jdbcTemplate.query(FIND_AFTER, ROW_MAPPER, cursor.txid(), cursor.id(), limit);
+	}
+
+	public int deleteOccurredBefore(LocalDateTime threshold) {
+		return jdbcTemplate.update("DELETE FROM change_events WHERE occurred_at < ?", threshold);
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.pohribnyi.insurance.repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.pohribnyi.insurance.dto.request.ClientRequestDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Set-based inserts for the bulk client import.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClientBulkRepository {
+
+	/**
+	 * Columns travel as one array each, so a chunk is a single statement. The
+	 * unique email constraint decides which rows are new: existing emails,
+	 * including ones committed concurrently, are skipped instead of failing the
+	 * chunk, and only inserted clients get a change event.
+	 */
+	private static final String INSERT_NEW = """
+			WITH inserted AS (
+			  INSERT INTO clients (id, first_name, last_name, email)
+			  SELECT gen_random_uuid(), first_name, last_name, email
+			  FROM unnest(?::text[], ?::text[], ?::text[]) AS c(first_name, last_name, email)
+			  ON CONFLICT (email) DO NOTHING
+			  RETURNING id, email),
+			events AS (
+			  INSERT INTO change_events (entity_type, entity_id, operation)
+			  SELECT 'CLIENT', id, 'CREATED' FROM inserted)
+			SELECT id, email FROM inserted""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Inserts the clients whose email is not taken yet. The requests must not
+	 * repeat an email among themselves.
+	 *
+	 * @return ids of the inserted clients by email
+	 */
+	public Map<String, UUID> insertNew(List<ClientRequestDTO> requests) {
+		Map<String, UUID> inserted = new HashMap<>();
+		jdbcTemplate.query(INSERT_NEW,
+				(RowCallbackHandler) rs -> inserted.put(rs.getString("email"), rs.getObject("id", UUID.class)),
+				requests.stream().map(ClientRequestDTO::firstName).toArray(String[]::new),
+				requests.stream().map(ClientRequestDTO::lastName).toArray(String[]::new),
+				requests.stream().map(ClientRequestDTO::email).toArray(String[]::new));
+		return inserted;
+	}
+
+}
@@ -4,6 +4,9 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.pohribnyi.insurance.model.entity.Client;
 
@@ -13,4 +16,23 @@ public interface ClientRepository extends JpaRepository<Client, UUID> {
 
 	Optional<Client> findByEmail(String email);
 
+	/**
+	 * Deletes the client and records the change events for it and its policies,
+	 * archived ones included, in a single statement; policies and their covered
+	 * risks are removed by the {@code ON DELETE CASCADE} foreign keys. The
+	 * policies are still visible to the outer query, which runs on the
+	 * statement's snapshot.
+	 *
+	 * @return number of events recorded, 0 when there is no such client
+	 */
+	@Modifying
+	@Query(value = """
+			WITH deleted_client AS (DELETE FROM clients WHERE id = :id RETURNING id)
+			INSERT INTO change_events (entity_type, entity_id, operation)
+			SELECT 'CLIENT', id, 'DELETED' FROM deleted_client
+			UNION ALL
+			SELECT 'POLICY', p.id, 'DELETED' FROM insurance_policies_all p JOIN deleted_client d ON p.client_id = d.id""",
+			nativeQuery = true)
+	int deleteClientWithChangeEvents(@Param("id") UUID id);
+
 }
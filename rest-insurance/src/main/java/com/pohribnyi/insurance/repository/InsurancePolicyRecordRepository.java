@@ -0,0 +1,12 @@
+package com.pohribnyi.insurance.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.Repository;
+
+import com.pohribnyi.insurance.model.entity.InsurancePolicyRecord;
+
+public interface InsurancePolicyRecordRepository
+		extends Repository<InsurancePolicyRecord, UUID>, JpaSpecificationExecutor<InsurancePolicyRecord> {
+}
@@ -1,12 +1,16 @@
 package com.pohribnyi.insurance.repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.Nullable;
 
 import com.pohribnyi.insurance.model.entity.InsurancePolicy;
@@ -20,6 +24,25 @@ public interface InsurancePolicyRepository
 	@EntityGraph(attributePaths = { "client" })
 	List<InsurancePolicy> findAll(@Nullable Specification<InsurancePolicy> spec);
 	
+	@EntityGraph(attributePaths = { "client", "coveredRisks" })
+	Optional<InsurancePolicy> findWithDetailsById(UUID id);
+
 	boolean existsByPolicyNumber(String policyNumber);
 
+	/**
+	 * Deletes the policy and records its change event in a single statement;
+	 * covered risks are removed by the {@code ON DELETE CASCADE} foreign key.
+	 * Native, because a JPQL bulk delete makes Hibernate clear the collection
+	 * table with a separate statement first.
+	 *
+	 * @return 1 if the policy was deleted, 0 when there is no such policy
+	 */
+	@Modifying
+	@Query(value = """
+			WITH deleted AS (DELETE FROM insurance_policies WHERE id = :id RETURNING id)
+			INSERT INTO change_events (entity_type, entity_id, operation)
+			SELECT 'POLICY', id, 'DELETED' FROM deleted""", 
+			nativeQuery = true)
+	int deletePolicyWithChangeEvent(@Param("id") UUID id);
+
 }
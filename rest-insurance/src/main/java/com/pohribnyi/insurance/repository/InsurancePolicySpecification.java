@@ -6,13 +6,16 @@ import java.util.List;
 import org.springframework.data.jpa.domain.Specification;
 
 import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
-import com.pohribnyi.insurance.model.entity.InsurancePolicy;
 
 import jakarta.persistence.criteria.Predicate;
 
+/**
+ * Filters shared by {@code InsurancePolicy} and {@code InsurancePolicyRecord},
+ * which map the same columns.
+ */
 public class InsurancePolicySpecification {
 
-	public static Specification<InsurancePolicy> withFilters(PolicyPageableRequestDTO request) {
+	public static <T> Specification<T> withFilters(PolicyPageableRequestDTO request) {
 		return (root, query, cb) -> {
 			List<Predicate> predicates = new ArrayList<>();
 
@@ -0,0 +1,103 @@
+package com.pohribnyi.insurance.repository;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Moves long-expired policies out of {@code insurance_policies} into the
+ * archive tables created in {@code 007-archive-expired-policies.sql}, and reads
+ * them back by id. The hot tables, and the writes through
+ * {@link InsurancePolicyRepository}, only ever see policies that have not been
+ * archived; lists, reports and exports read both only when asked to include
+ * archived policies.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PolicyArchiveRepository {
+
+	/**
+	 * Copies a chunk of policies and their risks to the archive, records their
+	 * change events and deletes them from the hot tables in one statement.
+	 * Every part reads the statement's snapshot, so the risks are still visible
+	 * when they are copied; the hot risks go with the {@code ON DELETE CASCADE}
+	 * foreign key. Rows locked by a running write are left for the next run.
+	 */
+	private static final String ARCHIVE_ENDED_BEFORE = """
+			WITH moved AS (
+			  DELETE FROM insurance_policies
+			  WHERE id IN (
+			    SELECT id FROM insurance_policies
+			    WHERE end_date < ?
+			    ORDER BY end_date
+			    LIMIT ?
+			    FOR UPDATE SKIP LOCKED)
+			  RETURNING id, policy_number, policy_type, start_date, end_date, client_id),
+			archived AS (
+			  INSERT INTO insurance_policies_archive (id, policy_number, policy_type, start_date, end_date, client_id)
+			  SELECT id, policy_number, policy_type, start_date, end_date, client_id FROM moved),
+			archived_risks AS (
+			  INSERT INTO policy_covered_risks_archive (policy_id, covered_risks)
+			  SELECT r.policy_id, r.covered_risks FROM policy_covered_risks r JOIN moved m ON r.policy_id = m.id),
+			events AS (
+			  INSERT INTO change_events (entity_type, entity_id, operation)
+			  SELECT 'POLICY', id, 'ARCHIVED' FROM moved)
+			SELECT count(*) FROM moved""";
+
+	private static final String FIND_BY_ID = """
+			SELECT p.id, p.policy_number, p.policy_type, p.start_date, p.end_date,
+			       c.id AS client_id, c.first_name, c.last_name, c.email,
+			       ARRAY(SELECT r.covered_risks FROM policy_covered_risks_archive r
+			             WHERE r.policy_id = p.id ORDER BY r.covered_risks) AS covered_risks
+			FROM insurance_policies_archive p
+			JOIN clients c ON c.id = p.client_id
+			WHERE p.id = ?""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Waits for writers that may be adding a policy number being archived, see
+	 * {@code trg_reject_archived_policy_number}, and keeps new ones out until
+	 * the current transaction ends; then archives a chunk.
+	 *
+	 * @return the number of policies archived, at most {@code limit}
+	 */
+	public int archiveEndedBefore(LocalDate threshold, int limit) {
+		jdbcTemplate.execute("SELECT pg_advisory_xact_lock('insurance_policies_archive'::regclass::oid::bigint)");
+		return jdbcTemplate.queryForObject(ARCHIVE_ENDED_BEFORE, Integer.class, threshold, limit);
+	}
+
+	public boolean existsById(UUID id) {
+		return jdbcTemplate.queryForObject(
+				"SELECT EXISTS (SELECT 1 FROM insurance_policies_archive WHERE id = ?)", Boolean.class, id);
+	}
+
+	public Optional<InsurancePolicyResponseDTO> findById(UUID id) {
+		return jdbcTemplate.query(FIND_BY_ID, (rs, rowNum) -> new InsurancePolicyResponseDTO(
+				rs.getObject("id", UUID.class),
+				rs.getString("policy_number"),
+				rs.getString("policy_type"),
+				rs.getObject("start_date", LocalDate.class),
+				rs.getObject("end_date", LocalDate.class),
+				List.copyOf(Arrays.asList((String[]) rs.getArray("covered_risks").getArray())),
+				new ClientResponseDTO(
+						rs.getObject("client_id", UUID.class),
+						rs.getString("first_name"),
+						rs.getString("last_name"),
+						rs.getString("email"))),
+				id)
+				.stream()
+				.findFirst();
+	}
+
+}
@@ -0,0 +1,192 @@
+package com.pohribnyi.insurance.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Set-based statements behind the bulk policy endpoints. Every update or
+ * delete touches a whole chunk of ids in one statement and records the
+ * matching change events in the same statement, like the single-row deletes
+ * in {@link InsurancePolicyRepository}. Uploaded policies are inserted the
+ * same way, a chunk per statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PolicyBulkRepository {
+
+	private static final String DELETE = """
+			WITH deleted AS (DELETE FROM insurance_policies WHERE id = ANY(?::uuid[]) RETURNING id)
+			INSERT INTO change_events (entity_type, entity_id, operation)
+			SELECT 'POLICY', id, 'DELETED' FROM deleted""";
+
+	/**
+	 * Policy columns travel as one array each and covered risks as a flat list
+	 * of (policy number, risk) pairs, so a whole upload chunk is one statement.
+	 * Requests for unknown clients or with a policy number that is already
+	 * taken, by a current or an archived policy, are skipped instead of
+	 * failing the chunk.
+	 */
+	private static final String INSERT_NEW = """
+			WITH requested AS (
+			  SELECT * FROM unnest(?::text[], ?::text[], ?::date[], ?::date[], ?::uuid[])
+			    AS r(policy_number, policy_type, start_date, end_date, client_id)),
+			inserted AS (
+			  INSERT INTO insurance_policies (id, policy_number, policy_type, start_date, end_date, client_id)
+			  SELECT gen_random_uuid(), r.policy_number, r.policy_type, r.start_date, r.end_date, r.client_id
+			  FROM requested r
+			  JOIN clients c ON c.id = r.client_id
+			  WHERE NOT EXISTS (SELECT 1 FROM insurance_policies_archive a WHERE a.policy_number = r.policy_number)
+			  ON CONFLICT (policy_number) DO NOTHING
+			  RETURNING id, policy_number),
+			risks AS (
+			  INSERT INTO policy_covered_risks (policy_id, covered_risks)
+			  SELECT DISTINCT i.id, k.covered_risk
+			  FROM unnest(?::text[], ?::text[]) AS k(policy_number, covered_risk)
+			  JOIN inserted i ON i.policy_number = k.policy_number),
+			events AS (
+			  INSERT INTO change_events (entity_type, entity_id, operation)
+			  SELECT 'POLICY', id, 'CREATED' FROM inserted)
+			SELECT policy_number FROM inserted""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Next chunk of ids matching the filter, in id order after {@code after}
+	 * (or from the start when null), so repeated calls walk the table once even
+	 * while earlier chunks are being changed or deleted.
+	 */
+	public List<UUID> findIdsAfter(PolicyPageableRequestDTO filter, UUID after, int limit) {
+		List<Object> args = new ArrayList<>();
+		StringBuilder sql = new StringBuilder("SELECT id FROM insurance_policies WHERE TRUE");
+		appendFilter(sql, args, filter);
+		if (after != null) {
+			sql.append(" AND id > ?");
+			args.add(after);
+		}
+		sql.append(" ORDER BY id LIMIT ?");
+		args.add(limit);
+		return jdbcTemplate.queryForList(sql.toString(), UUID.class, args.toArray());
+	}
+
+	/**
+	 * Sets the non-null fields on the given policies. Rows that already hold
+	 * the requested values are left alone and get no change event.
+	 *
+	 * @return the number of policies actually changed
+	 */
+	public int update(List<UUID> ids, String policyType, LocalDate endDate) {
+		List<String> assignments = new ArrayList<>();
+		List<String> differences = new ArrayList<>();
+		List<Object> values = new ArrayList<>();
+		if (policyType != null) {
+			assignments.add("policy_type = ?");
+			differences.add("policy_type IS DISTINCT FROM ?");
+			values.add(policyType);
+		}
+		if (endDate != null) {
+			assignments.add("end_date = ?");
+			differences.add("end_date IS DISTINCT FROM ?");
+			values.add(endDate);
+		}
+
+		String sql = """
+				WITH updated AS (
+				  UPDATE insurance_policies SET %s
+				  WHERE id = ANY(?::uuid[]) AND (%s)
+				  RETURNING id)
+				INSERT INTO change_events (entity_type, entity_id, operation)
+				SELECT 'POLICY', id, 'UPDATED' FROM updated"""
+				.formatted(String.join(", ", assignments), String.join(" OR ", differences));
+
+		List<Object> args = new ArrayList<>(values);
+		args.add(idArray(ids));
+		args.addAll(values);
+		return jdbcTemplate.update(sql, args.toArray());
+	}
+
+	/**
+	 * @return the number of policies deleted; ids that do not exist are ignored
+	 */
+	public int delete(List<UUID> ids) {
+		return jdbcTemplate.update(DELETE, (Object) idArray(ids));
+	}
+
+	/**
+	 * Inserts the uploaded policies that can be created. The requests must not
+	 * repeat a policy number among themselves.
+	 *
+	 * @return the policy numbers inserted
+	 */
+	public Set<String> insertNew(List<CreateInsurancePolicyRequestDTO> requests) {
+		List<String> riskPolicyNumbers = new ArrayList<>();
+		List<String> risks = new ArrayList<>();
+		requests.forEach(request -> request.coveredRisks().stream().distinct().forEach(risk -> {
+			riskPolicyNumbers.add(request.policyNumber());
+			risks.add(risk);
+		}));
+
+		return new HashSet<>(jdbcTemplate.queryForList(INSERT_NEW, String.class,
+				requests.stream().map(CreateInsurancePolicyRequestDTO::policyNumber).toArray(String[]::new),
+				requests.stream().map(CreateInsurancePolicyRequestDTO::policyType).toArray(String[]::new),
+				requests.stream().map(request -> request.startDate().toString()).toArray(String[]::new),
+				requests.stream().map(request -> request.endDate().toString()).toArray(String[]::new),
+				idArray(requests.stream().map(CreateInsurancePolicyRequestDTO::clientId).toList()),
+				riskPolicyNumbers.toArray(String[]::new),
+				risks.toArray(String[]::new)));
+	}
+
+	/**
+	 * Same as {@link #insertNew}, but under a savepoint of the surrounding
+	 * transaction, so a failing chunk is rolled back on its own and the
+	 * transaction stays usable.
+	 */
+	public Set<String> insertNewUnderSavepoint(List<CreateInsurancePolicyRequestDTO> requests) {
+		jdbcTemplate.execute("SAVEPOINT insert_new");
+		try {
+			Set<String> inserted = insertNew(requests);
+			jdbcTemplate.execute("RELEASE SAVEPOINT insert_new");
+			return inserted;
+		} catch (DataAccessException e) {
+			jdbcTemplate.execute("ROLLBACK TO SAVEPOINT insert_new");
+			jdbcTemplate.execute("RELEASE SAVEPOINT insert_new");
+			throw e;
+		}
+	}
+
+	private void appendFilter(StringBuilder sql, List<Object> args, PolicyPageableRequestDTO filter) {
+		if (filter.clientId() != null) {
+			sql.append(" AND client_id = ?");
+			args.add(filter.clientId());
+		}
+		if (filter.policyType() != null && !filter.policyType().isBlank()) {
+			sql.append(" AND policy_type = ?");
+			args.add(filter.policyType());
+		}
+		if (filter.policyNumber() != null && !filter.policyNumber().isBlank()) {
+			sql.append(" AND policy_number = ?");
+			args.add(filter.policyNumber());
+		}
+	}
+
+	/**
+	 * Binds the ids as one {@code uuid[]} parameter, so a chunk is always a
+	 * single statement with a single plan regardless of its size.
+	 */
+	private String[] idArray(List<UUID> ids) {
+		return ids.stream().map(UUID::toString).toArray(String[]::new);
+	}
+
+}
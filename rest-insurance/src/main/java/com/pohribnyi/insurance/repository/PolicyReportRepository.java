@@ -0,0 +1,111 @@
+package com.pohribnyi.insurance.repository;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyReportRowResponseDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads report rows one id range at a time, from the archive as well when the
+ * filter includes archived policies. Several ranges of the same report may be
+ * read on different connections; {@link #exportSnapshot()} and
+ * {@link #importSnapshot(String)} let them all see the same data.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PolicyReportRepository {
+
+	private static final int FETCH_SIZE = 1000;
+	private static final Pattern SNAPSHOT_ID = Pattern.compile("[0-9A-F-]+");
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Exports the snapshot of the current repeatable read transaction. The id
+	 * stays valid until that transaction ends.
+	 */
+	public String exportSnapshot() {
+		return jdbcTemplate.queryForObject("SELECT pg_export_snapshot()", String.class);
+	}
+
+	/**
+	 * Switches the current repeatable read transaction to an exported snapshot.
+	 * Must be the first statement of the transaction.
+	 */
+	public void importSnapshot(String snapshotId) {
+		if (!SNAPSHOT_ID.matcher(snapshotId).matches()) {
+			throw new IllegalArgumentException("Invalid snapshot id " + snapshotId);
+		}
+		jdbcTemplate.execute("SET TRANSACTION SNAPSHOT '" + snapshotId + "'");
+	}
+
+	/**
+	 * Streams the policies matching the filter with ids in {@code [from, to)}
+	 * in id order; a null bound leaves that side open. Rows are fetched through
+	 * a server-side cursor, so this must run inside a transaction.
+	 */
+	public void forEachInRange(PolicyPageableRequestDTO filter, UUID from, UUID to,
+			Consumer<PolicyReportRowResponseDTO> action) {
+		List<Object> args = new ArrayList<>();
+		StringBuilder sql = new StringBuilder("""
+				SELECT p.id, p.policy_number, p.policy_type, p.start_date, p.end_date,
+				       c.first_name, c.last_name, c.email
+				FROM %s p
+				JOIN clients c ON c.id = p.client_id
+				WHERE TRUE""".formatted(filter.includeArchived() ? "insurance_policies_all" : "insurance_policies"));
+		if (from != null) {
+			sql.append(" AND p.id >= ?");
+			args.add(from);
+		}
+		if (to != null) {
+			sql.append(" AND p.id < ?");
+			args.add(to);
+		}
+		appendFilter(sql, args, filter);
+		sql.append(" ORDER BY p.id");
+
+		jdbcTemplate.query(connection -> {
+			PreparedStatement statement = connection.prepareStatement(sql.toString());
+			statement.setFetchSize(FETCH_SIZE);
+			new ArgumentPreparedStatementSetter(args.toArray()).setValues(statement);
+			return statement;
+		}, resultSet -> {
+			action.accept(new PolicyReportRowResponseDTO(
+					resultSet.getObject("id", UUID.class),
+					resultSet.getString("policy_number"),
+					resultSet.getString("policy_type"),
+					resultSet.getDate("start_date").toLocalDate(),
+					resultSet.getDate("end_date").toLocalDate(),
+					resultSet.getString("first_name"),
+					resultSet.getString("last_name"),
+					resultSet.getString("email")));
+		});
+	}
+
+	private void appendFilter(StringBuilder sql, List<Object> args, PolicyPageableRequestDTO filter) {
+		if (filter.clientId() != null) {
+			sql.append(" AND p.client_id = ?");
+			args.add(filter.clientId());
+		}
+		if (filter.policyType() != null && !filter.policyType().isBlank()) {
+			sql.append(" AND p.policy_type = ?");
+			args.add(filter.policyType());
+		}
+		if (filter.policyNumber() != null && !filter.policyNumber().isBlank()) {
+			sql.append(" AND p.policy_number = ?");
+			args.add(filter.policyNumber());
+		}
+	}
+
+}
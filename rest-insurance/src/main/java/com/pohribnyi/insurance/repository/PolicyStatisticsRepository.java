@@ -0,0 +1,57 @@
+package com.pohribnyi.insurance.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.DataClassRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.pohribnyi.insurance.dto.response.insurancePolicy.ClientPolicyStatisticsResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyMonthlyStatisticsResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyTypeStatisticsResponseDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads and refreshes the statistics materialized views created in
+ * {@code 003-create-policy-statistics.sql}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PolicyStatisticsRepository {
+
+	private static final List<String> VIEWS = List.of(
+			"policy_type_statistics", 
+			"client_policy_statistics",
+			"policy_monthly_statistics");
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public List<PolicyTypeStatisticsResponseDTO> findTypeStatistics() {
+		return jdbcTemplate.query(
+				"SELECT policy_type, total_count, active_count, expired_count FROM policy_type_statistics ORDER BY policy_type",
+				new DataClassRowMapper<>(PolicyTypeStatisticsResponseDTO.class));
+	}
+
+	public List<PolicyMonthlyStatisticsResponseDTO> findMonthlyStatistics() {
+		return jdbcTemplate.query(
+				"SELECT month, started_count, expiring_count FROM policy_monthly_statistics ORDER BY month",
+				new DataClassRowMapper<>(PolicyMonthlyStatisticsResponseDTO.class));
+	}
+
+	public Optional<ClientPolicyStatisticsResponseDTO> findClientStatistics(UUID clientId) {
+		return jdbcTemplate.query(
+				"SELECT client_id, total_count, active_count, expired_count FROM client_policy_statistics WHERE client_id = ?",
+				new DataClassRowMapper<>(ClientPolicyStatisticsResponseDTO.class), 
+				clientId)
+				.stream()
+				.findFirst();
+	}
+
+	public void refreshAll() {
+		VIEWS.forEach(view -> jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY " + view));
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.pohribnyi.insurance.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.pohribnyi.insurance.dto.response.upload.UploadChunkResponseDTO;
+import com.pohribnyi.insurance.dto.response.upload.UploadSessionResponseDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Checkpoints of resumable uploads: a session row with the running totals and
+ * one row per committed chunk with that chunk's outcome and content hash.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UploadSessionRepository {
+
+	private static final String SELECT_SESSION = """
+			SELECT id, next_chunk, success_count, failure_count, completed
+			FROM upload_sessions WHERE id = ?""";
+
+	private static final RowMapper<UploadSessionResponseDTO> SESSION_MAPPER = (rs, rowNum) ->
+			new UploadSessionResponseDTO(
+					rs.getObject("id", UUID.class),
+					rs.getInt("next_chunk"),
+					rs.getLong("success_count"),
+					rs.getLong("failure_count"),
+					rs.getBoolean("completed"));
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public UploadSessionResponseDTO create() {
+		UUID id = UUID.randomUUID();
+		jdbcTemplate.update("INSERT INTO upload_sessions (id) VALUES (?)", id);
+		return new UploadSessionResponseDTO(id, 0, 0, 0, false);
+	}
+
+	public Optional<UploadSessionResponseDTO> findById(UUID id) {
+		return jdbcTemplate.query(SELECT_SESSION, SESSION_MAPPER, id).stream().findFirst();
+	}
+
+	/**
+	 * Same as {@link #findById}, but holds the session row until the current
+	 * transaction ends, so chunks of one session are applied one at a time.
+	 */
+	public Optional<UploadSessionResponseDTO> lockById(UUID id) {
+		return jdbcTemplate.query(SELECT_SESSION + " FOR UPDATE", SESSION_MAPPER, id).stream().findFirst();
+	}
+
+	public Optional<UploadChunkResponseDTO> findChunk(UUID sessionId, int chunk, int nextChunk) {
+		return jdbcTemplate.query(
+				"SELECT success_count, failure_count FROM upload_chunks WHERE session_id = ? AND chunk_index = ?",
+				(rs, rowNum) -> new UploadChunkResponseDTO(chunk, rs.getInt("success_count"),
+						rs.getInt("failure_count"), nextChunk, true),
+				sessionId, chunk).stream().findFirst();
+	}
+
+	/**
+	 * Whether a committed chunk was uploaded with the given content.
+	 */
+	public boolean chunkMatches(UUID sessionId, int chunk, long contentSize, byte[] contentSha256) {
+		return jdbcTemplate.queryForObject("""
+				SELECT content_size = ? AND content_sha256 = ?
+				FROM upload_chunks WHERE session_id = ? AND chunk_index = ?""",
+				Boolean.class, contentSize, contentSha256, sessionId, chunk);
+	}
+
+	/**
+	 * Records the chunk with its size and SHA-256 and moves the session past
+	 * it.
+	 */
+	public void commitChunk(UUID sessionId, int chunk, int successCount, int failureCount, long contentSize,
+			byte[] contentSha256) {
+		jdbcTemplate.update("""
+				INSERT INTO upload_chunks
+				  (session_id, chunk_index, success_count, failure_count, content_size, content_sha256)
+				VALUES (?, ?, ?, ?, ?, ?)""",
+				sessionId, chunk, successCount, failureCount, contentSize, contentSha256);
+		jdbcTemplate.update("""
+				UPDATE upload_sessions
+				SET next_chunk = ?, success_count = success_count + ?, failure_count = failure_count + ?,
+				    updated_at = CURRENT_TIMESTAMP
+				WHERE id = ?""", chunk + 1, successCount, failureCount, sessionId);
+	}
+
+	public void complete(UUID sessionId) {
+		jdbcTemplate.update("UPDATE upload_sessions SET completed = TRUE, updated_at = CURRENT_TIMESTAMP WHERE id = ?",
+				sessionId);
+	}
+
+	/**
+	 * Deletes sessions last touched before {@code threshold}, together with
+	 * their chunks.
+	 */
+	public int deleteUpdatedBefore(LocalDateTime threshold) {
+		return jdbcTemplate.update("DELETE FROM upload_sessions WHERE updated_at < ?", threshold);
+	}
+
+}
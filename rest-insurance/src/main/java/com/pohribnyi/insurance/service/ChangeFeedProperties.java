@@ -0,0 +1,20 @@
+package com.pohribnyi.insurance.service;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Change feed settings. {@code maxWait} caps how long a long-poll request may
+ * wait for new events; SSE streams are closed after {@code streamTimeout} and
+ * resumed by the client with {@code Last-Event-ID}. Events older than
+ * {@code retention} are purged.
+ */
+@ConfigurationProperties("insurance.change-feed")
+public record ChangeFeedProperties(
+		@DefaultValue("500") int maxBatchSize,
+		@DefaultValue("60s") Duration maxWait,
+		@DefaultValue("30m") Duration streamTimeout,
+		@DefaultValue("7d") Duration retention) {
+}
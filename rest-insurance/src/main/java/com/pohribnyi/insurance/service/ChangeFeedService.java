@@ -0,0 +1,265 @@
+package com.pohribnyi.insurance.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.pohribnyi.insurance.dto.response.change.ChangeEventResponseDTO;
+import com.pohribnyi.insurance.dto.response.change.ChangeFeedResponseDTO;
+import com.pohribnyi.insurance.model.change.ChangeCursor;
+import com.pohribnyi.insurance.repository.ChangeEventRepository;
+import com.pohribnyi.insurance.service.event.InsuranceDataChangedEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serves the change event outbox as long-poll batches and SSE streams.
+ * Waiting subscribers are woken after local commits and, to pick up writes
+ * made by other instances, on the {@code insurance.change-feed.poll-interval}.
+ * Subscribers waiting at the same cursor share one query per delivery round.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedService {
+
+	/** Servlet-level timeout slack on top of the long-poll wait we enforce ourselves. */
+	private static final Duration ASYNC_TIMEOUT_SLACK = Duration.ofSeconds(5);
+
+	private final ChangeEventRepository changeEventRepository;
+	private final ChangeFeedProperties properties;
+
+	private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+	private final ExecutorService deliveryExecutor = Executors
+			.newSingleThreadExecutor(new CustomizableThreadFactory("change-feed-"));
+	private final AtomicBoolean deliveryPending = new AtomicBoolean();
+
+	public DeferredResult<ChangeFeedResponseDTO> poll(String after, int limit, Duration wait) {
+		ChangeCursor cursor = ChangeCursor.parse(after);
+		int batchSize = Math.max(1, Math.min(limit, properties.maxBatchSize()));
+		Duration boundedWait = wait.isNegative() ? Duration.ZERO
+				: wait.compareTo(properties.maxWait()) > 0 ? properties.maxWait() : wait;
+
+		DeferredResult<ChangeFeedResponseDTO> result = new DeferredResult<>(
+				boundedWait.plus(ASYNC_TIMEOUT_SLACK).toMillis());
+		List<ChangeEventResponseDTO> events = changeEventRepository.findAfter(cursor, batchSize);
+		if (!events.isEmpty() || boundedWait.isZero()) {
+			result.setResult(page(cursor, events));
+			return result;
+		}
+
+		LongPoll longPoll = new LongPoll(cursor, batchSize, System.nanoTime() + boundedWait.toNanos(), result);
+		result.onTimeout(longPoll::expire);
+		result.onCompletion(() -> subscriptions.remove(longPoll));
+		subscriptions.add(longPoll);
+		// Covers events committed between the query above and the registration
+		wakeUp();
+		return result;
+	}
+
+	public SseEmitter stream(String after) {
+		SseEmitter emitter = new SseEmitter(properties.streamTimeout().toMillis());
+		Stream stream = new Stream(ChangeCursor.parse(after), emitter);
+		emitter.onCompletion(() -> subscriptions.remove(stream));
+		emitter.onTimeout(emitter::complete);
+		emitter.onError(e -> subscriptions.remove(stream));
+		subscriptions.add(stream);
+		wakeUp();
+		return emitter;
+	}
+
+	@TransactionalEventListener
+	public void onDataChanged(InsuranceDataChangedEvent event) {
+		wakeUp();
+	}
+
+	@Scheduled(fixedDelayString = "${insurance.change-feed.poll-interval:PT1S}")
+	public synchronized void deliverPending() {
+		if (subscriptions.isEmpty()) {
+			return;
+		}
+		Map<ChangeCursor, List<ChangeEventResponseDTO>> batches = new HashMap<>();
+		boolean backlog = false;
+		for (Subscription subscription : subscriptions) {
+			List<ChangeEventResponseDTO> events = batches.computeIfAbsent(subscription.cursor(),
+					cursor -> changeEventRepository.findAfter(cursor, properties.maxBatchSize()));
+			if (events.isEmpty()) {
+				subscription.expireIfDue();
+			} else {
+				subscription.deliver(events.subList(0, Math.min(events.size(), subscription.batchSize())));
+				backlog |= events.size() == properties.maxBatchSize();
+			}
+		}
+		if (backlog) {
+			wakeUp();
+		}
+	}
+
+	@Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1H")
+	public void purgeExpired() {
+		changeEventRepository.deleteOccurredBefore(LocalDateTime.now().minus(properties.retention()));
+	}
+
+	/**
+	 * Completes every open long-poll and stream; clients resume from their last
+	 * cursor.
+	 */
+	public void closeSubscriptions() {
+		subscriptions.forEach(Subscription::close);
+		subscriptions.clear();
+	}
+
+	@PreDestroy
+	void shutdown() {
+		closeSubscriptions();
+		deliveryExecutor.shutdownNow();
+	}
+
+	private void wakeUp() {
+		if (deliveryPending.compareAndSet(false, true)) {
+			try {
+				deliveryExecutor.execute(() -> {
+					deliveryPending.set(false);
+					deliverPending();
+				});
+			} catch (RejectedExecutionException e) {
+				deliveryPending.set(false);
+			}
+		}
+	}
+
+	private static ChangeFeedResponseDTO page(ChangeCursor cursor, List<ChangeEventResponseDTO> events) {
+		String next = events.isEmpty() ? cursor.toString() : events.get(events.size() - 1).cursor();
+		return new ChangeFeedResponseDTO(List.copyOf(events), next);
+	}
+
+	private interface Subscription {
+
+		ChangeCursor cursor();
+
+		int batchSize();
+
+		void deliver(List<ChangeEventResponseDTO> events);
+
+		void expireIfDue();
+
+		void close();
+
+	}
+
+	private final class LongPoll implements Subscription {
+
+		private final ChangeCursor cursor;
+		private final int batchSize;
+		private final long deadlineNanos;
+		private final DeferredResult<ChangeFeedResponseDTO> result;
+
+		private LongPoll(ChangeCursor cursor, int batchSize, long deadlineNanos,
+				DeferredResult<ChangeFeedResponseDTO> result) {
+			this.cursor = cursor;
+			this.batchSize = batchSize;
+			this.deadlineNanos = deadlineNanos;
+			this.result = result;
+		}
+
+		@Override
+		public ChangeCursor cursor() {
+			return cursor;
+		}
+
+		@Override
+		public int batchSize() {
+			return batchSize;
+		}
+
+		@Override
+		public void deliver(List<ChangeEventResponseDTO> events) {
+			subscriptions.remove(this);
+			result.setResult(page(cursor, events));
+		}
+
+		@Override
+		public void expireIfDue() {
+			if (System.nanoTime() - deadlineNanos >= 0) {
+				expire();
+			}
+		}
+
+		@Override
+		public void close() {
+			expire();
+		}
+
+		private void expire() {
+			subscriptions.remove(this);
+			result.setResult(page(cursor, List.of()));
+		}
+
+	}
+
+	private final class Stream implements Subscription {
+
+		private final SseEmitter emitter;
+		private volatile ChangeCursor cursor;
+
+		private Stream(ChangeCursor cursor, SseEmitter emitter) {
+			this.cursor = cursor;
+			this.emitter = emitter;
+		}
+
+		@Override
+		public ChangeCursor cursor() {
+			return cursor;
+		}
+
+		@Override
+		public int batchSize() {
+			return properties.maxBatchSize();
+		}
+
+		@Override
+		public void deliver(List<ChangeEventResponseDTO> events) {
+			try {
+				for (ChangeEventResponseDTO event : events) {
+					emitter.send(SseEmitter.event()
+							.id(event.cursor())
+							.name("change")
+							.data(event, MediaType.APPLICATION_JSON));
+				}
+				cursor = ChangeCursor.parse(events.get(events.size() - 1).cursor());
+			} catch (IOException | IllegalStateException e) {
+				subscriptions.remove(this);
+				emitter.completeWithError(e);
+			}
+		}
+
+		@Override
+		public void expireIfDue() {
+		}
+
+		@Override
+		public void close() {
+			subscriptions.remove(this);
+			emitter.complete();
+		}
+
+	}
+
+}
@@ -0,0 +1,137 @@
+package com.pohribnyi.insurance.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pohribnyi.insurance.dto.request.ClientRequestDTO;
+import com.pohribnyi.insurance.dto.response.client.ClientImportResponseDTO;
+import com.pohribnyi.insurance.repository.ClientBulkRepository;
+import com.pohribnyi.insurance.service.event.InsuranceDataChangedEvent;
+import com.pohribnyi.insurance.util.exception.ValidationException;
+
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Imports clients from a JSON array. The file is parsed as a stream and
+ * written in chunks of {@value #CHUNK_SIZE}, each with a single insert
+ * statement in its own transaction, so memory holds one chunk plus the emails
+ * seen so far, which are needed to drop repeats within the file. Elements that
+ * are not valid client objects count as failures. Chunks written before a
+ * malformed part of the file are kept, and the error says how many clients
+ * they hold.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClientImportService {
+
+	static final int CHUNK_SIZE = 1000;
+
+	private final ClientBulkRepository bulkRepository;
+	private final Validator validator;
+	private final ObjectMapper objectMapper;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PlatformTransactionManager transactionManager;
+
+	public ClientImportResponseDTO importClients(MultipartFile file) throws IOException {
+		Map<String, UUID> createdIds = new LinkedHashMap<>();
+		Set<String> seenEmails = new HashSet<>();
+		List<ClientRequestDTO> chunk = new ArrayList<>(CHUNK_SIZE);
+		int duplicateCount = 0;
+		int failureCount = 0;
+
+		try (InputStream in = file.getInputStream(); JsonParser parser = objectMapper.createParser(in)) {
+			JsonToken first = parser.nextToken();
+			if (first == null) {
+				return new ClientImportResponseDTO(0, 0, 0, createdIds);
+			}
+			if (first != JsonToken.START_ARRAY) {
+				throw new ValidationException("Client import file must contain a JSON array");
+			}
+
+			for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+				if (token == null) {
+					throw new ValidationException("Client import file ends inside the JSON array after "
+							+ createdIds.size() + " clients were imported");
+				}
+				ClientRequestDTO request = readRequest(parser);
+				if (request == null || !validator.validate(request).isEmpty()) {
+					failureCount++;
+				} else if (!seenEmails.add(request.email())) {
+					duplicateCount++;
+				} else {
+					chunk.add(request);
+					if (chunk.size() == CHUNK_SIZE) {
+						duplicateCount += insertChunk(chunk, createdIds);
+						chunk.clear();
+					}
+				}
+			}
+		} catch (JsonProcessingException e) {
+			throw new ValidationException("Malformed client import file after " + createdIds.size()
+					+ " clients were imported: " + e.getOriginalMessage(), e);
+		}
+		if (!chunk.isEmpty()) {
+			duplicateCount += insertChunk(chunk, createdIds);
+		}
+
+		return new ClientImportResponseDTO(createdIds.size(), duplicateCount, failureCount, createdIds);
+	}
+
+	/**
+	 * Reads the array element at the current token, or skips it and returns
+	 * null when it is not an object or does not map to a request.
+	 */
+	private ClientRequestDTO readRequest(JsonParser parser) throws IOException {
+		if (parser.currentToken() != JsonToken.START_OBJECT) {
+			parser.skipChildren();
+			return null;
+		}
+		JsonNode element = parser.readValueAsTree();
+		try {
+			return objectMapper.treeToValue(element, ClientRequestDTO.class);
+		} catch (JsonProcessingException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return the number of clients skipped because their email already exists
+	 */
+	private int insertChunk(List<ClientRequestDTO> chunk, Map<String, UUID> createdIds) {
+		Map<String, UUID> inserted = new TransactionTemplate(transactionManager).execute(status -> {
+			Map<String, UUID> ids = bulkRepository.insertNew(chunk);
+			if (!ids.isEmpty()) {
+				eventPublisher.publishEvent(new InsuranceDataChangedEvent("client"));
+			}
+			return ids;
+		});
+
+		for (ClientRequestDTO request : chunk) {
+			UUID id = inserted.get(request.email());
+			if (id != null) {
+				createdIds.put(request.email(), id);
+			}
+		}
+		return chunk.size() - inserted.size();
+	}
+
+}
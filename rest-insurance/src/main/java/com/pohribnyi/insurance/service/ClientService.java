@@ -3,13 +3,18 @@ package com.pohribnyi.insurance.service;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.pohribnyi.insurance.dto.request.ClientRequestDTO;
 import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
+import com.pohribnyi.insurance.model.change.ChangeEntityType;
+import com.pohribnyi.insurance.model.change.ChangeOperation;
 import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.repository.ChangeEventRepository;
 import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.service.event.InsuranceDataChangedEvent;
 import com.pohribnyi.insurance.util.exception.DuplicateResourceException;
 import com.pohribnyi.insurance.util.exception.ResourceNotFoundException;
 
@@ -20,6 +25,8 @@ import lombok.RequiredArgsConstructor;
 public class ClientService {
     
     private final ClientRepository clientRepository;
+    private final ChangeEventRepository changeEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional(readOnly = true)
     public List<ClientResponseDTO> getAllClients() {
@@ -36,6 +43,8 @@ public class ClientService {
         
         Client client = request.toEntity();
         Client saved = clientRepository.save(client);
+        changeEventRepository.record(ChangeEntityType.CLIENT, ChangeOperation.CREATED, saved.getId());
+        eventPublisher.publishEvent(new InsuranceDataChangedEvent("client"));
         return ClientResponseDTO.fromEntity(saved);
     }
     
@@ -54,15 +63,25 @@ public class ClientService {
         client.setEmail(request.email());
         
         Client updated = clientRepository.save(client);
+        changeEventRepository.record(ChangeEntityType.CLIENT, ChangeOperation.UPDATED, id);
+        eventPublisher.publishEvent(new InsuranceDataChangedEvent("client"));
         return ClientResponseDTO.fromEntity(updated);
     }
     
     @Transactional
     public void deleteClient(UUID id) {
-        if (!clientRepository.existsById(id)) {
+        if (clientRepository.deleteClientWithChangeEvents(id) == 0) {
             throw new ResourceNotFoundException("Client not found with id: " + id);
         }
-        clientRepository.deleteById(id);
+        eventPublisher.publishEvent(new InsuranceDataChangedEvent("client"));
+    }
+    
+    /**
+     * Returns an uninitialized reference for setting foreign keys. Existence is
+     * enforced by the {@code fk_policy_client} constraint at flush time.
+     */
+    public Client getClientReference(UUID id) {
+        return clientRepository.getReferenceById(id);
     }
     
     @Transactional(readOnly = true)
@@ -0,0 +1,187 @@
+package com.pohribnyi.insurance.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pohribnyi.insurance.bulkhead.Workload;
+import com.pohribnyi.insurance.dto.response.UploadResponseDTO;
+import com.pohribnyi.insurance.service.UploadService.PartialUploadException;
+import com.pohribnyi.insurance.util.io.MappedFileInputStream;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Uploads policy files dropped into {@code insurance.drop-directory.directory}
+ * without going through HTTP. One thread watches the directory, picks up
+ * {@code *.json} files that already exist at startup and then every new one,
+ * and feeds each through {@link UploadService} on the bulk connection pool,
+ * reading it straight from memory-mapped regions. The file then moves to
+ * {@code done}, or to {@code error} if it could not be read as a whole, with
+ * a {@code .result.json} report next to it; the report is renamed into place
+ * once complete, so it is never read half written. Writers should create
+ * files under another name and rename them into place once complete too.
+ */
+@Service
+@RequiredArgsConstructor
+public class DropDirectoryIngestionService {
+
+	static final String DONE = "done";
+	static final String ERROR = "error";
+
+	private static final Logger log = LoggerFactory.getLogger(DropDirectoryIngestionService.class);
+	private static final String PATTERN = "*.json";
+	private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmssSSS")
+			.withZone(ZoneOffset.UTC);
+
+	private final DropDirectoryProperties properties;
+	private final UploadService uploadService;
+	private final ObjectMapper objectMapper;
+
+	private WatchService watchService;
+	private Thread watcher;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void start() throws IOException {
+		if (!properties.enabled() || watcher != null) {
+			return;
+		}
+		Path directory = properties.directory();
+		Files.createDirectories(directory.resolve(DONE));
+		Files.createDirectories(directory.resolve(ERROR));
+		watchService = FileSystems.getDefault().newWatchService();
+		directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE);
+
+		watcher = new Thread(this::watch, "drop-directory");
+		watcher.setDaemon(true);
+		watcher.start();
+	}
+
+	@PreDestroy
+	public synchronized void stop() throws IOException, InterruptedException {
+		if (watcher != null) {
+			watchService.close();
+			watcher.join();
+			watcher = null;
+		}
+	}
+
+	/**
+	 * Runs until the watch service is closed. A failure while handling one
+	 * batch of events is logged and the thread keeps watching; files it left
+	 * behind are picked up on the next overflow or restart.
+	 */
+	private void watch() {
+		try {
+			handle(this::processPending);
+			while (true) {
+				WatchKey key = watchService.take();
+				for (WatchEvent<?> event : key.pollEvents()) {
+					if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+						handle(this::processPending);
+					} else if (isDropped(properties.directory().resolve((Path) event.context()))) {
+						handle(() -> process(properties.directory().resolve((Path) event.context())));
+					}
+				}
+				key.reset();
+			}
+		} catch (ClosedWatchServiceException | InterruptedException e) {
+			// Shutting down
+		}
+	}
+
+	private void handle(Runnable action) {
+		try {
+			action.run();
+		} catch (RuntimeException e) {
+			log.error("Drop directory {} could not be processed, still watching", properties.directory(), e);
+		}
+	}
+
+	private void processPending() {
+		List<Path> pending;
+		try (Stream<Path> files = Files.list(properties.directory())) {
+			pending = files.filter(this::isDropped).sorted().toList();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		pending.forEach(this::process);
+	}
+
+	private boolean isDropped(Path file) {
+		return Files.isRegularFile(file) && file.getFileSystem().getPathMatcher("glob:" + PATTERN)
+				.matches(file.getFileName());
+	}
+
+	/**
+	 * Uploads one file and files it away with its report. Policies that fail
+	 * validation or insertion are counted in the report like in an HTTP upload
+	 * and do not send the file to {@code error}. A file that fails part way
+	 * goes to {@code error} with the counts of the chunks stored before.
+	 */
+	void process(Path file) {
+		Instant startedAt = Instant.now();
+		UploadResponseDTO result = null;
+		String error = null;
+
+		Workload previous = Workload.BULK.enter();
+		try (InputStream in = new MappedFileInputStream(file, properties.regionSize().toBytes())) {
+			result = Files.size(file) == 0
+					? new UploadResponseDTO(0, 0, "File is empty")
+					: uploadService.uploadPolicies(in);
+		} catch (PartialUploadException e) {
+			result = e.committed().toResponse();
+			error = describe(e.getCause());
+		} catch (Exception e) {
+			error = describe(e);
+		} finally {
+			previous.enter();
+		}
+
+		IngestionReport report = new IngestionReport(file.getFileName().toString(), startedAt, Instant.now(),
+				result != null ? result.successCount() : 0, result != null ? result.failureCount() : 0,
+				error == null && result != null ? result.message() : null, error);
+		try {
+			Path target = properties.directory().resolve(error == null ? DONE : ERROR)
+					.resolve(STAMP.format(startedAt) + "-" + file.getFileName());
+			Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+			Path reportFile = target.resolveSibling(target.getFileName() + ".result.json");
+			Path partial = reportFile.resolveSibling(reportFile.getFileName() + ".part");
+			objectMapper.writerWithDefaultPrettyPrinter().writeValue(partial.toFile(), report);
+			Files.move(partial, reportFile, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			log.error("Could not file away {} after ingesting it: {}", file, report, e);
+		}
+	}
+
+	private static String describe(Throwable e) {
+		return e.getClass().getSimpleName() + ": " + e.getMessage();
+	}
+
+	record IngestionReport(String file, Instant startedAt, Instant finishedAt, int successCount, int failureCount,
+			String message, String error) {
+	}
+
+}
@@ -0,0 +1,20 @@
+package com.pohribnyi.insurance.service;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Server-side ingestion of policy files. When {@code enabled}, every
+ * {@code *.json} file that appears in {@code directory} is uploaded and then
+ * moved to its {@code done} or {@code error} subdirectory next to a result
+ * report. Files are read through memory mappings of {@code regionSize}.
+ */
+@ConfigurationProperties("insurance.drop-directory")
+public record DropDirectoryProperties(
+		@DefaultValue("false") boolean enabled,
+		Path directory,
+		@DefaultValue("64MB") DataSize regionSize) {
+}
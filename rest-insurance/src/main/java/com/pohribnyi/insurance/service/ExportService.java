@@ -0,0 +1,119 @@
+package com.pohribnyi.insurance.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.model.entity.InsurancePolicyRecord;
+import com.pohribnyi.insurance.model.entity.PolicyDetails;
+import com.pohribnyi.insurance.repository.InsurancePolicySpecification;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Streams policies with client and covered risks as NDJSON, archived policies
+ * only when the request includes them. Policies are read through a server-side
+ * cursor, risks are loaded once per batch, and the persistence context is
+ * cleared after every batch, so memory stays flat regardless of the export
+ * size.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+	private static final int BATCH_SIZE = 500;
+
+	private final EntityManager entityManager;
+	private final ObjectMapper objectMapper;
+
+	@Transactional(readOnly = true)
+	public void exportNdjson(PolicyPageableRequestDTO request, OutputStream out) throws IOException {
+		if (request.includeArchived()) {
+			export(InsurancePolicyRecord.class, request, out);
+		} else {
+			export(InsurancePolicy.class, request, out);
+		}
+	}
+
+	private <T extends PolicyDetails> void export(Class<T> type, PolicyPageableRequestDTO request, OutputStream out)
+			throws IOException {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<T> query = cb.createQuery(type);
+		Root<T> root = query.from(type);
+		root.fetch("client");
+		Specification<T> filters = InsurancePolicySpecification.withFilters(request);
+		query.where(filters.toPredicate(root, query, cb));
+		query.orderBy(cb.asc(root.get("id")));
+
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+				Stream<T> policies = entityManager.createQuery(query)
+						.setHint(HibernateHints.HINT_FETCH_SIZE, BATCH_SIZE)
+						.setHint(HibernateHints.HINT_READ_ONLY, true)
+						.getResultStream()) {
+
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.setRootValueSeparator(null);
+			ObjectWriter writer = objectMapper.writerFor(InsurancePolicyResponseDTO.class)
+					.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+			Iterator<T> iterator = policies.iterator();
+			List<T> batch = new ArrayList<>(BATCH_SIZE);
+
+			while (iterator.hasNext()) {
+				batch.add(iterator.next());
+				if (batch.size() == BATCH_SIZE || !iterator.hasNext()) {
+					writeBatch(type, batch, writer, generator);
+					batch.clear();
+					entityManager.clear();
+				}
+			}
+		}
+	}
+
+	private void writeBatch(Class<? extends PolicyDetails> type, List<? extends PolicyDetails> batch,
+			ObjectWriter writer, JsonGenerator generator) throws IOException {
+		Map<UUID, List<String>> risks = findCoveredRisks(type, batch.stream().map(PolicyDetails::getId).toList());
+
+		for (PolicyDetails policy : batch) {
+			writer.writeValue(generator,
+					InsurancePolicyResponseDTO.fromEntity(policy, risks.getOrDefault(policy.getId(), List.of())));
+			generator.writeRaw('\n');
+		}
+		generator.flush();
+	}
+
+	private Map<UUID, List<String>> findCoveredRisks(Class<? extends PolicyDetails> type, List<UUID> policyIds) {
+		Map<UUID, List<String>> risks = new HashMap<>();
+		entityManager.createQuery(
+				"SELECT p.id, r FROM " + type.getSimpleName() + " p JOIN p.coveredRisks r WHERE p.id IN :ids",
+				Object[].class)
+				.setParameter("ids", policyIds)
+				.getResultList()
+				.forEach(row -> risks.computeIfAbsent((UUID) row[0], id -> new ArrayList<>()).add((String) row[1]));
+		risks.values().forEach(list -> list.sort(Comparator.naturalOrder()));
+		return risks;
+	}
+
+}
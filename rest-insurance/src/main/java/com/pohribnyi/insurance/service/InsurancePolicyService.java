@@ -1,27 +1,45 @@
 package com.pohribnyi.insurance.service;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.pohribnyi.insurance.cache.PolicyResultCache;
 import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
 import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
 import com.pohribnyi.insurance.dto.request.UpdateInsurancePolicyRequestDTO;
 import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
 import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyPageableResponseDTO;
 import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicySummaryResponseDTO;
+import com.pohribnyi.insurance.model.change.ChangeEntityType;
+import com.pohribnyi.insurance.model.change.ChangeOperation;
 import com.pohribnyi.insurance.model.entity.Client;
 import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.model.entity.InsurancePolicyRecord;
+import com.pohribnyi.insurance.model.entity.PolicyDetails;
+import com.pohribnyi.insurance.repository.ChangeEventRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRecordRepository;
 import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
 import com.pohribnyi.insurance.repository.InsurancePolicySpecification;
+import com.pohribnyi.insurance.repository.PolicyArchiveRepository;
+import com.pohribnyi.insurance.service.event.InsuranceDataChangedEvent;
 import com.pohribnyi.insurance.util.exception.DuplicateResourceException;
+import com.pohribnyi.insurance.util.exception.ResourceConflictException;
 import com.pohribnyi.insurance.util.exception.ResourceNotFoundException;
+import com.pohribnyi.insurance.util.concurrent.SingleFlight;
 import com.pohribnyi.insurance.util.exception.ValidationException;
 
 import lombok.RequiredArgsConstructor;
@@ -30,77 +48,148 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class InsurancePolicyService {
 
+	private static final String UNIQUE_VIOLATION = "23505";
+	private static final String FOREIGN_KEY_VIOLATION = "23503";
+
 	private final InsurancePolicyRepository policyRepository;
+	private final InsurancePolicyRecordRepository recordRepository;
 	private final ClientService clientService;
+	private final ChangeEventRepository changeEventRepository;
+	private final PolicyResultCache resultCache;
+	private final PolicyArchiveRepository archiveRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PlatformTransactionManager transactionManager;
+	private final SingleFlight<UUID, InsurancePolicyResponseDTO> policyLookups = new SingleFlight<>();
 
 	@Transactional
 	public InsurancePolicyResponseDTO createPolicy(CreateInsurancePolicyRequestDTO request) {
-		validateDates(request.startDate(), request.endDate());
-
-		if (policyRepository.existsByPolicyNumber(request.policyNumber())) {
-			throw new DuplicateResourceException("Policy with number " + request.policyNumber() + " already exists");
-		}
-
-		Client client = clientService.getClientEntity(request.clientId());
-		InsurancePolicy policy = request.toEntity(client);
-
-		InsurancePolicy saved = policyRepository.save(policy);
-		return InsurancePolicyResponseDTO.fromEntity(saved);
+		return PolicyOperationEvent.record("create", () -> {
+			validateDates(request.startDate(), request.endDate());
+
+			Client client = clientService.getClientReference(request.clientId());
+			InsurancePolicy policy = request.toEntity(client);
+
+			InsurancePolicy saved;
+			try {
+				saved = policyRepository.saveAndFlush(policy);
+			} catch (DataIntegrityViolationException e) {
+				throw translateConstraintViolation(e, request.policyNumber(), request.clientId());
+			}
+			changeEventRepository.record(ChangeEntityType.POLICY, ChangeOperation.CREATED, saved.getId());
+			eventPublisher.publishEvent(new InsuranceDataChangedEvent("policy"));
+			return InsurancePolicyResponseDTO.fromEntity(saved);
+		});
 	}
 
-	@Transactional(readOnly = true)
+	/**
+	 * Concurrent lookups of the same id share one load, including its 404. The
+	 * transaction is opened by the caller that actually loads, so waiting
+	 * callers do not hold a connection. Ids missing from the hot table are
+	 * looked up in the archive.
+	 */
 	public InsurancePolicyResponseDTO getPolicyById(UUID id) {
-		InsurancePolicy policy = policyRepository.findById(id)
-				.orElseThrow(() -> new ResourceNotFoundException("Policy not found with id: " + id));
-		return InsurancePolicyResponseDTO.fromEntity(policy);
+		return PolicyOperationEvent.record("get", () -> policyLookups.execute(id, () -> {
+			TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+			transaction.setReadOnly(true);
+			return transaction.execute(status -> {
+				return policyRepository.findWithDetailsById(id)
+						.map(InsurancePolicyResponseDTO::fromEntity)
+						.or(() -> archiveRepository.findById(id))
+						.orElseThrow(() -> new ResourceNotFoundException("Policy not found with id: " + id));
+			});
+		}));
 	}
 
 	@Transactional
 	public InsurancePolicyResponseDTO updatePolicy(UUID id, UpdateInsurancePolicyRequestDTO request) {
+		return PolicyOperationEvent.record("update", () -> applyUpdate(id, request));
+	}
+
+	private InsurancePolicyResponseDTO applyUpdate(UUID id, UpdateInsurancePolicyRequestDTO request) {
 		validateDates(request.startDate(), request.endDate());
 
-		InsurancePolicy policy = policyRepository.findById(id)
-				.orElseThrow(() -> new ResourceNotFoundException("Policy not found with id: " + id));
+		InsurancePolicy policy = policyRepository.findWithDetailsById(id)
+				.orElseThrow(() -> missingPolicy(id));
 
-		Client client = policy.getClient();
-		if (!client.getId().equals(request.clientId())) {
-			client = clientService.getClientEntity(request.clientId());
+		boolean changed = !policy.getClient().getId().equals(request.clientId())
+				|| !Objects.equals(policy.getPolicyType(), request.policyType())
+				|| !Objects.equals(policy.getStartDate(), request.startDate())
+				|| !Objects.equals(policy.getEndDate(), request.endDate())
+				|| !policy.getCoveredRisks().equals(new HashSet<>(request.coveredRisks()));
+
+		if (!policy.getClient().getId().equals(request.clientId())) {
+			policy.setClient(clientService.getClientReference(request.clientId()));
 		}
 
 		policy.setPolicyType(request.policyType());
 		policy.setStartDate(request.startDate());
 		policy.setEndDate(request.endDate());
-		policy.setCoveredRisks(request.coveredRisks());
-		policy.setClient(client);
+		policy.getCoveredRisks().retainAll(request.coveredRisks());
+		policy.getCoveredRisks().addAll(request.coveredRisks());
 
-		InsurancePolicy updated = policyRepository.save(policy);
-		return InsurancePolicyResponseDTO.fromEntity(updated);
+		try {
+			policyRepository.flush();
+		} catch (DataIntegrityViolationException e) {
+			throw translateConstraintViolation(e, policy.getPolicyNumber(), request.clientId());
+		}
+		if (changed) {
+			changeEventRepository.record(ChangeEntityType.POLICY, ChangeOperation.UPDATED, id);
+			eventPublisher.publishEvent(new InsuranceDataChangedEvent("policy"));
+		}
+		return InsurancePolicyResponseDTO.fromEntity(policy);
 	}
 
 	@Transactional
 	public void deletePolicy(UUID id) {
-		if (!policyRepository.existsById(id)) {
-			throw new ResourceNotFoundException("Policy not found with id: " + id);
-		}
-		policyRepository.deleteById(id);
+		PolicyOperationEvent.record("delete", () -> {
+			if (policyRepository.deletePolicyWithChangeEvent(id) == 0) {
+				throw missingPolicy(id);
+			}
+			eventPublisher.publishEvent(new InsuranceDataChangedEvent("policy"));
+			return null;
+		});
 	}
 
 	@Transactional(readOnly = true)
 	public PolicyPageableResponseDTO getPolicies(PolicyPageableRequestDTO request) {
-		Pageable pageable = PageRequest.of(request.page(), request.size());
-		Page<InsurancePolicy> page = policyRepository.findAll(InsurancePolicySpecification.withFilters(request),
-				pageable);
-
-		List<PolicySummaryResponseDTO> summaries = page.getContent().stream()
-				.map(PolicySummaryResponseDTO::fromEntity)
-				.toList();
+		return PolicyOperationEvent.record("list", () -> resultCache.list(request, () -> {
+			Pageable pageable = PageRequest.of(request.page(), request.size());
+			Page<? extends PolicyDetails> page = request.includeArchived()
+					? recordRepository.findAll(InsurancePolicySpecification.<InsurancePolicyRecord>withFilters(request),
+							pageable)
+					: policyRepository.findAll(InsurancePolicySpecification.<InsurancePolicy>withFilters(request),
+							pageable);
+
+			List<PolicySummaryResponseDTO> summaries = page.getContent().stream()
+					.map(PolicySummaryResponseDTO::fromEntity)
+					.toList();
+
+			return new PolicyPageableResponseDTO(summaries, page.getTotalPages());
+		}));
+	}
 
-		return new PolicyPageableResponseDTO(summaries, page.getTotalPages());
+	/**
+	 * Archived policies are read-only, so a write to one is a conflict rather
+	 * than a missing policy.
+	 */
+	private RuntimeException missingPolicy(UUID id) {
+		if (archiveRepository.existsById(id)) {
+			return new ResourceConflictException("Policy " + id + " is archived and can no longer be changed");
+		}
+		return new ResourceNotFoundException("Policy not found with id: " + id);
 	}
 
-	@Transactional(readOnly = true)
-	public List<InsurancePolicy> getPoliciesForReport(PolicyPageableRequestDTO request) {
-		return policyRepository.findAll(InsurancePolicySpecification.withFilters(request));
+	private RuntimeException translateConstraintViolation(DataIntegrityViolationException e, String policyNumber,
+			UUID clientId) {
+		if (e.getCause() instanceof ConstraintViolationException violation) {
+			if (UNIQUE_VIOLATION.equals(violation.getSQLState())) {
+				return new DuplicateResourceException("Policy with number " + policyNumber + " already exists", e);
+			}
+			if (FOREIGN_KEY_VIOLATION.equals(violation.getSQLState())) {
+				return new ResourceNotFoundException("Client not found with id: " + clientId, e);
+			}
+		}
+		return e;
 	}
 
 	private void validateDates(LocalDate startDate, LocalDate endDate) {
@@ -0,0 +1,20 @@
+package com.pohribnyi.insurance.service;
+
+import java.time.Period;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Archival of expired policies. Policies whose end date is more than
+ * {@code retention} in the past are moved to the archive tables in chunks of
+ * {@code chunkSize}; the job runs every {@code insurance.archive.interval}
+ * once {@code enabled}. Archived policies are listed, reported and exported
+ * only on request, and updating or deleting one is rejected with 409.
+ */
+@ConfigurationProperties("insurance.archive")
+public record PolicyArchiveProperties(
+		@DefaultValue("false") boolean enabled,
+		@DefaultValue("2y") Period retention,
+		@DefaultValue("1000") int chunkSize) {
+}
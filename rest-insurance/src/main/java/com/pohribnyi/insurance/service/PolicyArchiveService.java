@@ -0,0 +1,67 @@
+package com.pohribnyi.insurance.service;
+
+import java.time.LocalDate;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pohribnyi.insurance.bulkhead.Workload;
+import com.pohribnyi.insurance.repository.PolicyArchiveRepository;
+import com.pohribnyi.insurance.service.event.InsuranceDataChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps {@code insurance_policies} limited to active and recently expired
+ * policies by moving long-expired ones to the archive tables. Each chunk is
+ * its own transaction on the bulk connection pool, so the job never holds
+ * many locks and does not compete with interactive requests for connections.
+ */
+@Service
+@RequiredArgsConstructor
+public class PolicyArchiveService {
+
+	private final PolicyArchiveRepository archiveRepository;
+	private final PolicyArchiveProperties properties;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PlatformTransactionManager transactionManager;
+
+	@Scheduled(fixedDelayString = "${insurance.archive.interval:PT1H}", 
+			initialDelayString = "${insurance.archive.interval:PT1H}")
+	public void archiveExpiredOnSchedule() {
+		if (properties.enabled()) {
+			archiveExpired();
+		}
+	}
+
+	/**
+	 * @return the number of policies archived
+	 */
+	public int archiveExpired() {
+		LocalDate threshold = LocalDate.now().minus(properties.retention());
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		int total = 0;
+
+		Workload previous = Workload.BULK.enter();
+		try {
+			int archived;
+			do {
+				archived = transaction.execute(status -> {
+					int count = archiveRepository.archiveEndedBefore(threshold, properties.chunkSize());
+					if (count > 0) {
+						eventPublisher.publishEvent(new InsuranceDataChangedEvent("policy"));
+					}
+					return count;
+				});
+				total += archived;
+			} while (archived == properties.chunkSize());
+		} finally {
+			previous.enter();
+		}
+		return total;
+	}
+
+}
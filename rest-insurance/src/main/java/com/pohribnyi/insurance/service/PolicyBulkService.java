@@ -0,0 +1,122 @@
+package com.pohribnyi.insurance.service;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pohribnyi.insurance.dto.request.BulkDeletePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.BulkUpdatePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.BulkOperationResponseDTO;
+import com.pohribnyi.insurance.repository.PolicyBulkRepository;
+import com.pohribnyi.insurance.service.event.InsuranceDataChangedEvent;
+import com.pohribnyi.insurance.util.exception.ValidationException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Updates or deletes many policies at once. Work is split into chunks of
+ * {@value #CHUNK_SIZE} policies, each applied with one statement in its own
+ * transaction, so locks and undo stay bounded and a failure keeps the chunks
+ * that were already committed. Filter selections are walked in id order.
+ * Archived policies are read-only, so they are never selected. An end date
+ * that is not after the start date of a selected policy is rejected by the
+ * policy table's check constraint, in the same statement that sets it.
+ */
+@Service
+@RequiredArgsConstructor
+public class PolicyBulkService {
+
+	static final int CHUNK_SIZE = 1000;
+	private static final String CHECK_VIOLATION = "23514";
+
+	private final PolicyBulkRepository bulkRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PlatformTransactionManager transactionManager;
+
+	public BulkOperationResponseDTO bulkUpdate(BulkUpdatePolicyRequestDTO request) {
+		validateSelection(request.ids(), request.filter());
+		if (request.policyType() == null && request.endDate() == null) {
+			throw new ValidationException("Bulk update must set policy type or end date");
+		}
+
+		try {
+			int affected = applyInChunks(request.ids(), request.filter(),
+					ids -> bulkRepository.update(ids, request.policyType(), request.endDate()));
+			return new BulkOperationResponseDTO(affected);
+		} catch (DataIntegrityViolationException e) {
+			if (e.getCause() instanceof SQLException cause && CHECK_VIOLATION.equals(cause.getSQLState())) {
+				throw new ValidationException("End date must be after start date of every selected policy");
+			}
+			throw e;
+		}
+	}
+
+	public BulkOperationResponseDTO bulkDelete(BulkDeletePolicyRequestDTO request) {
+		validateSelection(request.ids(), request.filter());
+
+		int affected = applyInChunks(request.ids(), request.filter(), bulkRepository::delete);
+		return new BulkOperationResponseDTO(affected);
+	}
+
+	private int applyInChunks(List<UUID> ids, PolicyPageableRequestDTO filter, ToIntFunction<List<UUID>> statement) {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		int affected = 0;
+
+		if (ids != null) {
+			List<UUID> distinct = ids.stream().distinct().toList();
+			for (int from = 0; from < distinct.size(); from += CHUNK_SIZE) {
+				List<UUID> chunk = distinct.subList(from, Math.min(from + CHUNK_SIZE, distinct.size()));
+				affected += transaction.execute(status -> apply(chunk, statement));
+			}
+			return affected;
+		}
+
+		UUID after = null;
+		while (true) {
+			UUID cursor = after;
+			Chunk chunk = transaction.execute(status -> {
+				List<UUID> next = bulkRepository.findIdsAfter(filter, cursor, CHUNK_SIZE);
+				return new Chunk(next, next.isEmpty() ? 0 : apply(next, statement));
+			});
+			affected += chunk.affected();
+			if (chunk.ids().size() < CHUNK_SIZE) {
+				return affected;
+			}
+			after = chunk.ids().get(CHUNK_SIZE - 1);
+		}
+	}
+
+	private int apply(List<UUID> chunk, ToIntFunction<List<UUID>> statement) {
+		int affected = statement.applyAsInt(chunk);
+		if (affected > 0) {
+			eventPublisher.publishEvent(new InsuranceDataChangedEvent("policy"));
+		}
+		return affected;
+	}
+
+	private void validateSelection(List<UUID> ids, PolicyPageableRequestDTO filter) {
+		if ((ids == null) == (filter == null)) {
+			throw new ValidationException("Exactly one of ids or filter must be provided");
+		}
+		if (filter != null && filter.clientId() == null && isBlank(filter.policyType())
+				&& isBlank(filter.policyNumber())) {
+			throw new ValidationException("Filter must contain at least one criterion");
+		}
+	}
+
+	private boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+
+	private record Chunk(List<UUID> ids, int affected) {
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.pohribnyi.insurance.service;
+
+import java.util.function.Supplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("com.pohribnyi.insurance.PolicyOperation")
+@Label("Policy Operation")
+@Category({ "Insurance", "Service" })
+@Description("Call of an InsurancePolicyService operation, timed inside its transaction, so the commit is not included")
+@StackTrace(false)
+@Threshold("20 ms")
+class PolicyOperationEvent extends Event {
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Failure")
+	@Description("Exception thrown by the operation, if any")
+	String failure;
+
+	static <T> T record(String operation, Supplier<T> action) {
+		PolicyOperationEvent event = new PolicyOperationEvent();
+		event.operation = operation;
+		event.begin();
+		try {
+			return action.get();
+		} catch (RuntimeException e) {
+			event.failure = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			event.commit();
+		}
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.pohribnyi.insurance.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.pohribnyi.insurance.bulkhead.Workload;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.ClientPolicyStatisticsResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyStatisticsResponseDTO;
+import com.pohribnyi.insurance.repository.PolicyStatisticsRepository;
+import com.pohribnyi.insurance.service.event.InsuranceDataChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serves policy statistics from materialized views. Writes only mark the views
+ * stale; the scheduled refresh rebuilds them when something changed or when the
+ * date rolls over, since active/expired counts depend on the current date.
+ */
+@Service
+@RequiredArgsConstructor
+public class PolicyStatisticsService {
+
+	private final PolicyStatisticsRepository statisticsRepository;
+
+	private final AtomicBoolean stale = new AtomicBoolean(true);
+	private volatile LocalDate refreshedOn;
+	private volatile LocalDateTime refreshedAt;
+
+	public PolicyStatisticsResponseDTO getStatistics() {
+		return PolicyStatisticsResponseDTO.of(
+				statisticsRepository.findTypeStatistics(),
+				statisticsRepository.findMonthlyStatistics(), 
+				refreshedAt);
+	}
+
+	public ClientPolicyStatisticsResponseDTO getClientStatistics(UUID clientId) {
+		return statisticsRepository.findClientStatistics(clientId)
+				.orElseGet(() -> ClientPolicyStatisticsResponseDTO.empty(clientId));
+	}
+
+	@TransactionalEventListener
+	public void onDataChanged(InsuranceDataChangedEvent event) {
+		stale.set(true);
+	}
+
+	@Scheduled(fixedDelayString = "${insurance.statistics.refresh-interval:PT1M}")
+	public void refreshIfStale() {
+		if (stale.getAndSet(false) || !LocalDate.now().equals(refreshedOn)) {
+			try {
+				refresh();
+			} catch (RuntimeException e) {
+				stale.set(true);
+				throw e;
+			}
+		}
+	}
+
+	public void refresh() {
+		LocalDateTime startedAt = LocalDateTime.now();
+		Workload previous = Workload.BULK.enter();
+		try {
+			statisticsRepository.refreshAll();
+		} finally {
+			previous.enter();
+		}
+		refreshedOn = startedAt.toLocalDate();
+		refreshedAt = startedAt;
+	}
+
+}
@@ -0,0 +1,41 @@
+package com.pohribnyi.insurance.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+@Name("com.pohribnyi.insurance.ReportGeneration")
+@Label("Report Generation")
+@Category({ "Insurance", "Report" })
+@Description("Build of a CSV policy report that was not served from the result cache")
+@StackTrace(false)
+@Threshold("0 ms")
+class ReportGenerationEvent extends Event {
+
+	@Label("Partitions")
+	int partitions;
+
+	@Label("Rows")
+	long rows;
+
+	@Label("Size")
+	@DataAmount
+	long bytes;
+
+	@Label("Ranges Duration")
+	@Description("Reading and encoding every id range, including the wait for the range bulkhead")
+	@Timespan
+	long rangesDuration;
+
+	@Label("Assemble Duration")
+	@Description("Concatenating the encoded ranges behind the header")
+	@Timespan
+	long assembleDuration;
+
+}
@@ -0,0 +1,14 @@
+package com.pohribnyi.insurance.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Parallelism of the CSV policy report. A report that is not narrowed down to
+ * one client or policy number is split into {@code partitions} id ranges that
+ * are read and encoded concurrently; 1 reads everything as a single range.
+ */
+@ConfigurationProperties("insurance.report")
+public record ReportProperties(
+		@DefaultValue("4") int partitions) {
+}
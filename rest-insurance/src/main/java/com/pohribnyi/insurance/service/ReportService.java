@@ -3,52 +3,147 @@ package com.pohribnyi.insurance.service;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.opencsv.CSVWriter;
+import com.pohribnyi.insurance.bulkhead.Bulkheads;
+import com.pohribnyi.insurance.cache.PolicyResultCache;
 import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
-import com.pohribnyi.insurance.model.entity.Client;
-import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.repository.PolicyReportRepository;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Builds the CSV policy report. Unless the filter pins a client or a policy
+ * number, the id space is split into {@code insurance.report.partitions}
+ * ranges that are read and encoded concurrently on the report-range bulkhead,
+ * each over its own connection and all from the snapshot exported by this
+ * thread's transaction. The encoded ranges are concatenated in id order, so
+ * the output is the same as reading everything with one query. Finished
+ * reports are kept in {@link PolicyResultCache} until the data changes.
+ */
 @Service
 @RequiredArgsConstructor
 public class ReportService {
 
-	private final InsurancePolicyService policyService;
-
-	public byte[] generateCsvReport(PolicyPageableRequestDTO request) throws IOException {
-		
-		List<InsurancePolicy> policies = policyService.getPoliciesForReport(request);
-
-		try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-				OutputStreamWriter osw = new OutputStreamWriter(baos);
-				CSVWriter writer = new CSVWriter(osw)) {
-
-			String[] header = { "ID", "Policy Number", "Policy Type", "Start Date", "End Date", "Client Name",
-					"Client Email" };
-			writer.writeNext(header);
-
-			for (InsurancePolicy policy : policies) {
-				Client client = policy.getClient();
-				String[] data = { 
-						policy.getId().toString(), 
-						policy.getPolicyNumber(), 
-						policy.getPolicyType(),
-						policy.getStartDate().toString(), 
-						policy.getEndDate().toString(),
-						client.getFirstName() + " " + client.getLastName(),
-						client.getEmail() 
-						};
-				writer.writeNext(data);
+	private static final String[] HEADER = { "ID", "Policy Number", "Policy Type", "Start Date", "End Date",
+			"Client Name", "Client Email" };
+
+	private final PolicyReportRepository reportRepository;
+	private final Bulkheads bulkheads;
+	private final ReportProperties properties;
+	private final PlatformTransactionManager transactionManager;
+	private final PolicyResultCache resultCache;
+
+	public byte[] generateCsvReport(PolicyPageableRequestDTO request) {
+		return resultCache.report(request, () -> buildCsvReport(request));
+	}
+
+	private byte[] buildCsvReport(PolicyPageableRequestDTO request) {
+		List<KeyRange> ranges = KeyRange.split(isSelective(request) ? 1 : Math.max(1, properties.partitions()));
+		LongAdder rows = new LongAdder();
+		ReportGenerationEvent event = new ReportGenerationEvent();
+		event.partitions = ranges.size();
+		event.begin();
+
+		long startedAt = System.nanoTime();
+		TransactionTemplate transaction = snapshotTransaction();
+		List<byte[]> parts = transaction.execute(status -> ranges.size() == 1
+				? List.<byte[]>of(encode(request, ranges.get(0), rows))
+				: encodeInParallel(request, ranges, reportRepository.exportSnapshot(), rows));
+		long encodedAt = System.nanoTime();
+
+		ByteArrayOutputStream report = new ByteArrayOutputStream();
+		report.writeBytes(encode(writer -> writer.writeNext(HEADER)));
+		parts.forEach(report::writeBytes);
+		byte[] body = report.toByteArray();
+
+		event.rows = rows.sum();
+		event.bytes = body.length;
+		event.rangesDuration = encodedAt - startedAt;
+		event.assembleDuration = System.nanoTime() - encodedAt;
+		event.commit();
+		return body;
+	}
+
+	private List<byte[]> encodeInParallel(PolicyPageableRequestDTO request, List<KeyRange> ranges,
+			String snapshotId, LongAdder rows) {
+		List<CompletableFuture<byte[]>> parts = ranges.stream()
+				.map(range -> bulkheads.reportRange().submit(() -> snapshotTransaction().execute(status -> {
+					reportRepository.importSnapshot(snapshotId);
+					return encode(request, range, rows);
+				})))
+				.toList();
+
+		// The snapshot lives as long as our transaction, so let every range finish first
+		CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).handle((ignored, e) -> null).join();
+		try {
+			return parts.stream().map(CompletableFuture::join).toList();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private byte[] encode(PolicyPageableRequestDTO request, KeyRange range, LongAdder rows) {
+		return encode(writer -> reportRepository.forEachInRange(request, range.from(), range.to(), row -> {
+			writer.writeNext(row.toCsvRow());
+			rows.increment();
+		}));
+	}
+
+	private byte[] encode(Consumer<CSVWriter> content) {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (CSVWriter writer = new CSVWriter(new OutputStreamWriter(baos))) {
+			content.accept(writer);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return baos.toByteArray();
+	}
+
+	private TransactionTemplate snapshotTransaction() {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.setReadOnly(true);
+		transaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+		return transaction;
+	}
+
+	private boolean isSelective(PolicyPageableRequestDTO request) {
+		return request.clientId() != null || (request.policyNumber() != null && !request.policyNumber().isBlank());
+	}
+
+	/**
+	 * Ids in {@code [from, to)}; a null bound is open. Ranges are cut on the
+	 * leading 32 bits, which spreads random UUIDs evenly between them.
+	 */
+	private record KeyRange(UUID from, UUID to) {
+
+		static List<KeyRange> split(int count) {
+			List<KeyRange> ranges = new ArrayList<>(count);
+			UUID from = null;
+			for (int i = 1; i <= count; i++) {
+				UUID to = i == count ? null : new UUID((((long) i << 32) / count) << 32, 0);
+				ranges.add(new KeyRange(from, to));
+				from = to;
 			}
-			
-			writer.flush();
-			return baos.toByteArray();
-			
+			return ranges;
 		}
+
 	}
-}
\ No newline at end of file
+
+}
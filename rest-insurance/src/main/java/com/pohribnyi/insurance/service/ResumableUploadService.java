@@ -0,0 +1,148 @@
+package com.pohribnyi.insurance.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.pohribnyi.insurance.dto.response.upload.UploadChunkResponseDTO;
+import com.pohribnyi.insurance.dto.response.upload.UploadSessionResponseDTO;
+import com.pohribnyi.insurance.repository.UploadSessionRepository;
+import com.pohribnyi.insurance.service.UploadService.PartialUploadException;
+import com.pohribnyi.insurance.service.UploadService.UploadTally;
+import com.pohribnyi.insurance.util.exception.ResourceConflictException;
+import com.pohribnyi.insurance.util.exception.ResourceNotFoundException;
+import com.pohribnyi.insurance.util.exception.ValidationException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Uploads a large file as numbered chunks, each a JSON array of policies. A
+ * chunk's policies and its checkpoint commit in one transaction, so after an
+ * interruption the session's {@code nextChunk} tells the client where to
+ * resume, and resending a chunk that did commit returns its recorded outcome
+ * without inserting anything again. A resent chunk must have the size and
+ * SHA-256 it was committed with, otherwise it is rejected as a conflict.
+ * Policy numbers repeated in an earlier chunk are rejected as taken, the same
+ * as within a single upload. Sessions idle for longer than the retention are
+ * purged.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResumableUploadService {
+
+	private final UploadService uploadService;
+	private final UploadSessionRepository sessionRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final UploadSessionProperties properties;
+
+	public UploadSessionResponseDTO createSession() {
+		return sessionRepository.create();
+	}
+
+	public UploadSessionResponseDTO getSession(UUID id) {
+		return sessionRepository.findById(id).orElseThrow(() -> sessionNotFound(id));
+	}
+
+	public UploadChunkResponseDTO uploadChunk(UUID sessionId, int chunk, MultipartFile file) throws IOException {
+		if (chunk < 0) {
+			throw new ValidationException("Chunk index must not be negative");
+		}
+		if (file.isEmpty()) {
+			throw new ValidationException("Chunk " + chunk + " is empty");
+		}
+		ChunkContent content = content(file);
+
+		try {
+			return new TransactionTemplate(transactionManager).execute(status -> {
+				UploadSessionResponseDTO session = sessionRepository.lockById(sessionId)
+						.orElseThrow(() -> sessionNotFound(sessionId));
+				if (chunk < session.nextChunk()) {
+					if (!sessionRepository.chunkMatches(sessionId, chunk, content.size(), content.sha256())) {
+						throw new ResourceConflictException("Chunk " + chunk + " of upload " + sessionId
+								+ " was already committed with different content");
+					}
+					return sessionRepository.findChunk(sessionId, chunk, session.nextChunk()).orElseThrow();
+				}
+				if (session.completed()) {
+					throw new ValidationException("Upload " + sessionId + " is already completed");
+				}
+				if (chunk > session.nextChunk()) {
+					throw new ValidationException(
+							"Upload " + sessionId + " expects chunk " + session.nextChunk() + ", got " + chunk);
+				}
+
+				UploadTally tally = ingest(file);
+				sessionRepository.commitChunk(sessionId, chunk, tally.successCount(), tally.failureCount(),
+						content.size(), content.sha256());
+				return new UploadChunkResponseDTO(chunk, tally.successCount(), tally.failureCount(), chunk + 1,
+						false);
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	public UploadSessionResponseDTO completeSession(UUID id) {
+		return new TransactionTemplate(transactionManager).execute(status -> {
+			UploadSessionResponseDTO session = sessionRepository.lockById(id).orElseThrow(() -> sessionNotFound(id));
+			sessionRepository.complete(id);
+			return new UploadSessionResponseDTO(id, session.nextChunk(), session.successCount(),
+					session.failureCount(), true);
+		});
+	}
+
+	@Scheduled(fixedDelayString = "${insurance.upload-sessions.purge-interval:PT1H}",
+			initialDelayString = "${insurance.upload-sessions.purge-interval:PT1H}")
+	public void purgeExpired() {
+		sessionRepository.deleteUpdatedBefore(LocalDateTime.now().minus(properties.retention()));
+	}
+
+	private ChunkContent content(MultipartFile file) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+			in.transferTo(OutputStream.nullOutputStream());
+		}
+		return new ChunkContent(file.getSize(), digest.digest());
+	}
+
+	/**
+	 * Ingests the chunk in the current transaction. A chunk that fails part
+	 * way is rolled back as a whole, so the partial counts are dropped and
+	 * only the cause is rethrown.
+	 */
+	private UploadTally ingest(MultipartFile file) {
+		try (InputStream in = file.getInputStream()) {
+			return uploadService.ingest(in, uploadService::insertChunkInCurrentTransaction);
+		} catch (PartialUploadException e) {
+			throw e.getCause() instanceof IOException cause ? new UncheckedIOException(cause)
+					: (RuntimeException) e.getCause();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private ResourceNotFoundException sessionNotFound(UUID id) {
+		return new ResourceNotFoundException("Upload session not found with id: " + id);
+	}
+
+	private record ChunkContent(long size, byte[] sha256) {
+	}
+
+}
@@ -0,0 +1,32 @@
+package com.pohribnyi.insurance.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("com.pohribnyi.insurance.UploadChunk")
+@Label("Upload Chunk")
+@Category({ "Insurance", "Upload" })
+@Description("Insert of one chunk of uploaded policies")
+@StackTrace(false)
+@Threshold("0 ms")
+class UploadChunkEvent extends Event {
+
+	@Label("Rows")
+	int rows;
+
+	@Label("Inserted")
+	int inserted;
+
+	@Label("Failures")
+	int failures;
+
+	@Label("Row By Row")
+	@Description("Whether the chunk statement failed and the chunk was retried one policy at a time")
+	boolean rowByRow;
+
+}
@@ -1,66 +1,308 @@
 package com.pohribnyi.insurance.service;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
 import com.pohribnyi.insurance.dto.response.UploadResponseDTO;
+import com.pohribnyi.insurance.repository.PolicyBulkRepository;
+import com.pohribnyi.insurance.service.event.InsuranceDataChangedEvent;
 
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Uploads policies from a JSON array. The file is parsed as a stream and valid
+ * requests are inserted in chunks of {@value #CHUNK_SIZE}, each with a single
+ * statement in its own transaction, so no policy ever enters a persistence
+ * context. An element counts as a failure when it is not a valid request,
+ * names an unknown client or uses a taken policy number, including one stored
+ * earlier from the same file, the same outcomes as creating it on its own. A
+ * chunk that
+ * still fails, for example because its client was deleted meanwhile, is
+ * retried one policy at a time through {@link InsurancePolicyService}.
+ */
 @Service
 @RequiredArgsConstructor
 public class UploadService {
 
+	static final int CHUNK_SIZE = 1000;
+
 	private final InsurancePolicyService policyService;
+	private final PolicyBulkRepository bulkRepository;
 	private final Validator validator;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PlatformTransactionManager transactionManager;
 	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
 
 	public UploadResponseDTO uploadPolicies(MultipartFile file) throws IOException {
-		
+
 		if (file.isEmpty()) {
 			return new UploadResponseDTO(0, 0, "File is empty");
 		}
 
-		CreateInsurancePolicyRequestDTO[] requests = objectMapper.readValue(file.getInputStream(),
-				CreateInsurancePolicyRequestDTO[].class);
+		try (InputStream in = file.getInputStream()) {
+			return uploadPolicies(in);
+		}
+	}
 
-		List<CreateInsurancePolicyRequestDTO> requestList = Arrays.asList(requests);
+	public UploadResponseDTO uploadPolicies(InputStream in) {
+		return ingest(in, this::insertChunk).toResponse();
+	}
 
-		int successCount = 0;
-		int failureCount = 0;
+	/**
+	 * Streams the JSON array from {@code in} and hands the valid requests to
+	 * {@code insertChunk} through a {@link ChunkBuffer}. {@code insertChunk}
+	 * returns the policy numbers it inserted; the rest count as failures. If
+	 * reading or inserting fails part way, the failure is rethrown as a
+	 * {@link PartialUploadException} with the counts so far.
+	 */
+	UploadTally ingest(InputStream in, Function<List<CreateInsurancePolicyRequestDTO>, Set<String>> insertChunk) {
+		ChunkBuffer chunks = new ChunkBuffer(insertChunk);
 
-		for (CreateInsurancePolicyRequestDTO request : requestList) {
-			if (processSinglePolicy(request)) {
-				successCount++;
-			} else {
-				failureCount++;
+		try (JsonParser parser = objectMapper.createParser(in)) {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				throw MismatchedInputException.from(parser, CreateInsurancePolicyRequestDTO[].class,
+						"Policy upload file must contain a JSON array");
+			}
+
+			for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+				if (token == null) {
+					throw MismatchedInputException.from(parser, CreateInsurancePolicyRequestDTO[].class,
+							"Policy upload file ends inside the JSON array");
+				}
+				CreateInsurancePolicyRequestDTO request = readRequest(parser);
+				if (request == null || !isValid(request)) {
+					chunks.reject();
+				} else {
+					chunks.add(request);
+				}
 			}
+			chunks.finish();
+		} catch (IOException | RuntimeException e) {
+			throw new PartialUploadException(chunks.tally(), e);
 		}
+		return chunks.tally();
+	}
+
+	/**
+	 * Reads the array element at the current token, or skips it and returns
+	 * null when it is not an object or does not map to a request.
+	 */
+	private CreateInsurancePolicyRequestDTO readRequest(JsonParser parser) throws IOException {
+		if (parser.currentToken() != JsonToken.START_OBJECT) {
+			parser.skipChildren();
+			return null;
+		}
+		JsonNode element = parser.readValueAsTree();
+		try {
+			return objectMapper.treeToValue(element, CreateInsurancePolicyRequestDTO.class);
+		} catch (JsonProcessingException e) {
+			return null;
+		}
+	}
 
-		return new UploadResponseDTO(
-				successCount, 
-				failureCount,
-				"Upload completed: " + successCount + " successful, " + failureCount + " failed");
+	private boolean isValid(CreateInsurancePolicyRequestDTO request) {
+		return validator.validate(request).isEmpty() && request.endDate().isAfter(request.startDate());
 	}
-	
-	private boolean processSinglePolicy(CreateInsurancePolicyRequestDTO request) {
-		if (!validator.validate(request).isEmpty()) {
-			return false;
+
+	private Set<String> insertChunk(List<CreateInsurancePolicyRequestDTO> chunk) {
+		return recordChunk(chunk, () -> new TransactionTemplate(transactionManager)
+				.execute(status -> insert(chunk, bulkRepository::insertNew)),
+				this::processSinglePolicy);
+	}
+
+	/**
+	 * Like {@link #insertChunk}, but joins the caller's transaction, so the
+	 * chunk commits or rolls back together with whatever the caller writes.
+	 * The chunk statement and each retried policy run under a savepoint.
+	 */
+	Set<String> insertChunkInCurrentTransaction(List<CreateInsurancePolicyRequestDTO> chunk) {
+		return recordChunk(chunk, () -> insert(chunk, bulkRepository::insertNewUnderSavepoint), request -> {
+			try {
+				return !insert(List.of(request), bulkRepository::insertNewUnderSavepoint).isEmpty();
+			} catch (DataAccessException e) {
+				return false;
+			}
+		});
+	}
+
+	private Set<String> recordChunk(List<CreateInsurancePolicyRequestDTO> chunk, Supplier<Set<String>> insert,
+			Predicate<CreateInsurancePolicyRequestDTO> insertOne) {
+		UploadChunkEvent event = new UploadChunkEvent();
+		event.rows = chunk.size();
+		event.begin();
+		Set<String> inserted;
+		try {
+			inserted = insert.get();
+		} catch (DataAccessException e) {
+			event.rowByRow = true;
+			inserted = new HashSet<>();
+			for (CreateInsurancePolicyRequestDTO request : chunk) {
+				if (insertOne.test(request)) {
+					inserted.add(request.policyNumber());
+				}
+			}
 		}
+		event.inserted = inserted.size();
+		event.failures = event.rows - event.inserted;
+		event.commit();
+		return inserted;
+	}
+
+	private Set<String> insert(List<CreateInsurancePolicyRequestDTO> chunk,
+			Function<List<CreateInsurancePolicyRequestDTO>, Set<String>> statement) {
+		Set<String> inserted = statement.apply(chunk);
+		if (!inserted.isEmpty()) {
+			eventPublisher.publishEvent(new InsuranceDataChangedEvent("policy"));
+		}
+		return inserted;
+	}
+
+	private boolean processSinglePolicy(CreateInsurancePolicyRequestDTO request) {
 		try {
 			policyService.createPolicy(request);
 			return true;
 		} catch (Exception e) {
-			return false; 
+			return false;
+		}
+	}
+
+	/**
+	 * Groups requests into chunks in which no policy number repeats, since one
+	 * insert statement cannot tell two requests for the same number apart. A
+	 * request repeating a number that is still pending waits for a later chunk;
+	 * once a request with its number is stored, it fails without reaching the
+	 * database. Requests for different numbers keep their order.
+	 */
+	private static class ChunkBuffer {
+
+		private final Function<List<CreateInsurancePolicyRequestDTO>, Set<String>> insertChunk;
+		private final List<CreateInsurancePolicyRequestDTO> chunk = new ArrayList<>(CHUNK_SIZE);
+		private final Set<String> chunkNumbers = new HashSet<>();
+		private final Set<String> storedNumbers = new HashSet<>();
+		private final Map<String, Deque<CreateInsurancePolicyRequestDTO>> waiting = new LinkedHashMap<>();
+		private int successCount;
+		private int failureCount;
+
+		ChunkBuffer(Function<List<CreateInsurancePolicyRequestDTO>, Set<String>> insertChunk) {
+			this.insertChunk = insertChunk;
+		}
+
+		void reject() {
+			failureCount++;
+		}
+
+		void add(CreateInsurancePolicyRequestDTO request) {
+			String policyNumber = request.policyNumber();
+			if (storedNumbers.contains(policyNumber)) {
+				failureCount++;
+			} else if (waiting.containsKey(policyNumber) || !chunkNumbers.add(policyNumber)) {
+				waiting.computeIfAbsent(policyNumber, number -> new ArrayDeque<>()).add(request);
+			} else {
+				chunk.add(request);
+				while (chunk.size() == CHUNK_SIZE) {
+					flush();
+				}
+			}
+		}
+
+		void finish() {
+			while (!chunk.isEmpty()) {
+				flush();
+			}
+		}
+
+		UploadTally tally() {
+			return new UploadTally(successCount, failureCount);
+		}
+
+		/**
+		 * Inserts the chunk and starts the next one with the oldest waiting
+		 * request of every number that is still free.
+		 */
+		private void flush() {
+			Set<String> inserted = insertChunk.apply(chunk);
+			successCount += inserted.size();
+			failureCount += chunk.size() - inserted.size();
+			storedNumbers.addAll(inserted);
+			chunk.clear();
+			chunkNumbers.clear();
+
+			Iterator<Deque<CreateInsurancePolicyRequestDTO>> queues = waiting.values().iterator();
+			while (queues.hasNext() && chunk.size() < CHUNK_SIZE) {
+				Deque<CreateInsurancePolicyRequestDTO> queue = queues.next();
+				if (storedNumbers.contains(queue.peek().policyNumber())) {
+					failureCount += queue.size();
+					queues.remove();
+					continue;
+				}
+				CreateInsurancePolicyRequestDTO request = queue.poll();
+				chunk.add(request);
+				chunkNumbers.add(request.policyNumber());
+				if (queue.isEmpty()) {
+					queues.remove();
+				}
+			}
 		}
+
 	}
-	
+
+	record UploadTally(int successCount, int failureCount) {
+
+		UploadResponseDTO toResponse() {
+			return new UploadResponseDTO(
+					successCount,
+					failureCount,
+					"Upload completed: " + successCount + " successful, " + failureCount + " failed");
+		}
+
+	}
+
+	/**
+	 * An upload that failed part way; {@link #committed()} counts the policies
+	 * handled before the failure. Chunks inserted in transactions of their own
+	 * stay stored.
+	 */
+	static class PartialUploadException extends RuntimeException {
+
+		private final UploadTally committed;
+
+		PartialUploadException(UploadTally committed, Exception cause) {
+			super(cause.getMessage(), cause);
+			this.committed = committed;
+		}
+
+		UploadTally committed() {
+			return committed;
+		}
+
+	}
+
 }
@@ -0,0 +1,16 @@
+package com.pohribnyi.insurance.service;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Resumable upload sessions not touched for {@code retention} are purged
+ * together with their chunk checkpoints every
+ * {@code insurance.upload-sessions.purge-interval}.
+ */
+@ConfigurationProperties("insurance.upload-sessions")
+public record UploadSessionProperties(
+		@DefaultValue("7d") Duration retention) {
+}
@@ -0,0 +1,8 @@
+package com.pohribnyi.insurance.service.event;
+
+/**
+ * Published by the write paths whenever policies or clients change. Listeners
+ * that maintain derived data (statistics, caches) react after commit.
+ */
+public record InsuranceDataChangedEvent(String source) {
+}
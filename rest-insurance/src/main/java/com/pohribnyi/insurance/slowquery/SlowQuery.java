@@ -0,0 +1,23 @@
+package com.pohribnyi.insurance.slowquery;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * @param rows      rows read from the result set, or rows changed by an
+ *                  update; null when the driver does not report either
+ * @param batchSize number of parameter sets when the statement ran as a
+ *                  batch, 1 otherwise
+ * @param callSite  innermost application method outside the repositories
+ *                  that issued the statement
+ */
+public record SlowQuery(
+		Instant executedAt,
+		long durationMillis,
+		String sql,
+		List<String> parameters,
+		int batchSize,
+		Long rows,
+		String callSite,
+		String thread) {
+}
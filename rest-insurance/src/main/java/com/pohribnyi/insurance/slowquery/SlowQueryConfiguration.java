@@ -0,0 +1,29 @@
+package com.pohribnyi.insurance.slowquery;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "insurance.slow-query.enabled", matchIfMissing = true)
+public class SlowQueryConfiguration {
+
+	/**
+	 * Bound straight from the environment: the recorder post-processes the
+	 * data source, so it is created before configuration properties beans are.
+	 */
+	@Bean
+	public static SlowQueryRecorder slowQueryRecorder(Environment environment) {
+		SlowQueryProperties properties = Binder.get(environment)
+				.bindOrCreate("insurance.slow-query", SlowQueryProperties.class);
+		return new SlowQueryRecorder(properties);
+	}
+
+	@Bean
+	public SlowQueryEndpoint slowQueryEndpoint(SlowQueryRecorder recorder) {
+		return new SlowQueryEndpoint(recorder);
+	}
+
+}
@@ -0,0 +1,26 @@
+package com.pohribnyi.insurance.slowquery;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Read-only: the endpoint is exposed over the web without authentication, so
+ * the buffer can only be cleared from inside the application.
+ */
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+	private final SlowQueryRecorder recorder;
+
+	public SlowQueryEndpoint(SlowQueryRecorder recorder) {
+		this.recorder = recorder;
+	}
+
+	@ReadOperation
+	public List<SlowQuery> slowQueries() {
+		return recorder.recent();
+	}
+
+}
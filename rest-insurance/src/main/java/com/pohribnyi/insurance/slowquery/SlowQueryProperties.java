@@ -0,0 +1,21 @@
+package com.pohribnyi.insurance.slowquery;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Statements that run for at least {@code threshold} are kept with a
+ * probability of {@code sampleRate}; the last {@code capacity} of them are
+ * available from the {@code slowqueries} actuator endpoint. Bound values are
+ * replaced by their type unless {@code redactParameters} is turned off.
+ */
+@ConfigurationProperties("insurance.slow-query")
+public record SlowQueryProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("200ms") Duration threshold,
+		@DefaultValue("1.0") double sampleRate,
+		@DefaultValue("200") int capacity,
+		@DefaultValue("true") boolean redactParameters) {
+}
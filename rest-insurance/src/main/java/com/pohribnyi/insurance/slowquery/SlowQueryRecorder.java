@@ -0,0 +1,267 @@
+package com.pohribnyi.insurance.slowquery;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.jdk.JdkJdbcProxyFactory;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Wraps the application {@link DataSource} and keeps the slowest statements
+ * in a ring buffer. Every statement pays for a clock read before it runs and a
+ * threshold comparison after it; result sets and other JDBC calls are passed
+ * through untouched. Only a kept statement pays for copying its parameters and
+ * walking the stack, and a kept query for a proxy around its result set that
+ * counts rows as the caller reads them. Its entry is published once that
+ * result set is closed or the thread runs its next statement.
+ */
+public class SlowQueryRecorder implements BeanPostProcessor, QueryExecutionListener {
+
+	private static final String APPLICATION_PACKAGE = "com.pohribnyi.insurance.";
+	private static final String REPOSITORY_PACKAGE = APPLICATION_PACKAGE + "repository.";
+	private static final int MAX_PARAMETER_LENGTH = 100;
+
+	private final SlowQueryProperties properties;
+	private final Deque<SlowQuery> recent;
+	private final ThreadLocal<PendingQuery> pending = new ThreadLocal<>();
+	private final ThreadLocal<long[]> startedAt = ThreadLocal.withInitial(() -> new long[1]);
+	private final ThreadLocal<RowCounter> counter = new ThreadLocal<>();
+
+	public SlowQueryRecorder(SlowQueryProperties properties) {
+		this.properties = properties;
+		this.recent = new ArrayDeque<>(properties.capacity());
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof DataSource dataSource) {
+			return ProxyDataSourceBuilder.create(dataSource)
+					.name(beanName)
+					.listener(this)
+					.jdbcProxyFactory(new KeptResultSetProxyFactory())
+					.proxyResultSet()
+					.build();
+		}
+		return bean;
+	}
+
+	/**
+	 * @return kept statements, most recent first
+	 */
+	public synchronized List<SlowQuery> recent() {
+		return List.copyOf(recent);
+	}
+
+	public synchronized void clear() {
+		recent.clear();
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		publishPending();
+		counter.remove();
+		startedAt.get()[0] = System.nanoTime();
+	}
+
+	/**
+	 * A query's result set is created before this runs, so whether it is kept
+	 * was already decided there: only a kept one comes with a row counter.
+	 */
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		Object result = execInfo.getResult();
+		RowCounter rowCounter = counter.get();
+		if (result instanceof ResultSet) {
+			if (rowCounter == null) {
+				return;
+			}
+			counter.remove();
+		} else if (!keep(execInfo.getElapsedTime())) {
+			return;
+		}
+
+		QueryInfo queryInfo = queryInfoList.get(0);
+		PendingQuery query = new PendingQuery(
+				Instant.now(),
+				execInfo.getElapsedTime(),
+				queryInfo.getQuery(),
+				queryInfo.getParametersList().isEmpty() ? List.of() : parameters(queryInfo.getParametersList().get(0)),
+				execInfo.isBatch() ? Math.max(execInfo.getBatchSize(), 1) : 1,
+				callSite(),
+				Thread.currentThread().getName());
+
+		if (result instanceof ResultSet) {
+			query.rows = 0L;
+			rowCounter.query = query;
+			pending.set(query);
+			return;
+		}
+		if (result instanceof Integer updated) {
+			query.rows = updated.longValue();
+		} else if (result instanceof int[] updated) {
+			query.rows = IntStream.of(updated).filter(count -> count >= 0).asLongStream().sum();
+		}
+		publish(query);
+	}
+
+	private boolean keep(long elapsedMillis) {
+		return elapsedMillis >= properties.threshold().toMillis()
+				&& ThreadLocalRandom.current().nextDouble() < properties.sampleRate();
+	}
+
+	private void publishPending() {
+		PendingQuery query = pending.get();
+		if (query != null) {
+			pending.remove();
+			publish(query);
+		}
+	}
+
+	private synchronized void publish(PendingQuery query) {
+		if (recent.size() == properties.capacity()) {
+			recent.removeLast();
+		}
+		recent.addFirst(new SlowQuery(query.executedAt, query.durationMillis, query.sql, query.parameters,
+				query.batchSize, query.rows, query.callSite, query.thread));
+	}
+
+	private List<String> parameters(List<ParameterSetOperation> operations) {
+		return operations.stream()
+				.sorted(Comparator.comparingInt(
+						operation -> operation.getArgs()[0] instanceof Integer index ? index : Integer.MAX_VALUE))
+				.map(this::describe)
+				.toList();
+	}
+
+	private String describe(ParameterSetOperation operation) {
+		if ("setNull".equals(operation.getMethod().getName()) || operation.getArgs()[1] == null) {
+			return "null";
+		}
+		Object value = operation.getArgs()[1];
+		if (properties.redactParameters()) {
+			return "<" + value.getClass().getSimpleName() + ">";
+		}
+		String text = value instanceof Object[] array ? Arrays.toString(array) : String.valueOf(value);
+		return text.length() > MAX_PARAMETER_LENGTH ? text.substring(0, MAX_PARAMETER_LENGTH) + "..." : text;
+	}
+
+	/**
+	 * Statements flushed when a transaction commits run after the service
+	 * method returned; their innermost application frame is then the Spring
+	 * proxy of that method, which is reported under the proxied class.
+	 */
+	private static String callSite() {
+		return StackWalker.getInstance().walk(frames -> frames
+				.filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+						&& !frame.getClassName().startsWith(REPOSITORY_PACKAGE)
+						&& !frame.getClassName().startsWith(SlowQueryRecorder.class.getName()))
+				.findFirst()
+				.map(SlowQueryRecorder::describe)
+				.orElse(null));
+	}
+
+	private static String describe(StackWalker.StackFrame frame) {
+		String className = frame.getClassName();
+		int proxySuffix = className.indexOf("$$");
+		if (proxySuffix >= 0) {
+			className = className.substring(0, proxySuffix);
+		}
+		String site = className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+		return proxySuffix < 0 && frame.getLineNumber() > 0 ? site + ":" + frame.getLineNumber() : site;
+	}
+
+	private static final class PendingQuery {
+
+		private final Instant executedAt;
+		private final long durationMillis;
+		private final String sql;
+		private final List<String> parameters;
+		private final int batchSize;
+		private final String callSite;
+		private final String thread;
+		private Long rows;
+
+		PendingQuery(Instant executedAt, long durationMillis, String sql, List<String> parameters, int batchSize,
+				String callSite, String thread) {
+			this.executedAt = executedAt;
+			this.durationMillis = durationMillis;
+			this.sql = sql;
+			this.parameters = parameters;
+			this.batchSize = batchSize;
+			this.callSite = callSite;
+			this.thread = thread;
+		}
+
+	}
+
+	/**
+	 * Hands out the result set of a query as is, unless the query ran long
+	 * enough to be kept.
+	 */
+	private final class KeptResultSetProxyFactory extends JdkJdbcProxyFactory {
+
+		@Override
+		public ResultSet createResultSet(ResultSet resultSet, ConnectionInfo connectionInfo, ProxyConfig proxyConfig) {
+			long elapsedMillis = (System.nanoTime() - startedAt.get()[0]) / 1_000_000;
+			if (!keep(elapsedMillis)) {
+				return resultSet;
+			}
+			RowCounter rowCounter = new RowCounter(resultSet);
+			counter.set(rowCounter);
+			return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+					new Class<?>[] { ResultSet.class }, rowCounter);
+		}
+
+	}
+
+	private final class RowCounter implements InvocationHandler {
+
+		private final ResultSet target;
+		private PendingQuery query;
+
+		RowCounter(ResultSet target) {
+			this.target = target;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			Object result;
+			try {
+				result = method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+			if (query != null) {
+				if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+					query.rows++;
+				} else if (method.getName().equals("close") && pending.get() == query) {
+					publishPending();
+				}
+			}
+			return result;
+		}
+
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.pohribnyi.insurance.timing;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.jdk.JdkJdbcProxyFactory;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Wraps the application {@link DataSource} and adds every statement executed
+ * on a timed request's thread to its {@link RequestTiming}, together with the
+ * rows read from the result sets. A JDBC batch counts as one statement. Only
+ * result sets created on a timed request's thread get a proxy that counts
+ * rows; other JDBC calls are passed through untouched.
+ */
+class JdbcTimingListener implements BeanPostProcessor, QueryExecutionListener {
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof DataSource dataSource) {
+			return ProxyDataSourceBuilder.create(dataSource)
+					.name(beanName)
+					.listener(this)
+					.jdbcProxyFactory(new TimedResultSetProxyFactory())
+					.proxyResultSet()
+					.build();
+		}
+		return bean;
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		RequestTiming timing = RequestTiming.current();
+		if (timing != null) {
+			timing.statementStarted();
+		}
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		RequestTiming timing = RequestTiming.current();
+		if (timing != null) {
+			timing.statementFinished();
+		}
+	}
+
+	private static final class TimedResultSetProxyFactory extends JdkJdbcProxyFactory {
+
+		@Override
+		public ResultSet createResultSet(ResultSet resultSet, ConnectionInfo connectionInfo, ProxyConfig proxyConfig) {
+			RequestTiming timing = RequestTiming.current();
+			if (timing == null) {
+				return resultSet;
+			}
+			return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+					new Class<?>[] { ResultSet.class }, new RowCounter(resultSet, timing));
+		}
+
+	}
+
+	private record RowCounter(ResultSet target, RequestTiming timing) implements InvocationHandler {
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			Object result;
+			try {
+				result = method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+			if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+				timing.rowFetched();
+			}
+			return result;
+		}
+
+	}
+
+}
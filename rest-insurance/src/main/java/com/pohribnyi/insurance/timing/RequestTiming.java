@@ -0,0 +1,106 @@
+package com.pohribnyi.insurance.timing;
+
+import java.util.Locale;
+
+/**
+ * Phase durations, SQL statements and fetched rows of the request running on
+ * the current thread. Bind, app and render follow each other; db is the time
+ * spent executing statements and overlaps the phase that issued them. Work
+ * handed to another thread, such as a report on its bulkhead, is not
+ * attributed to the request.
+ */
+public final class RequestTiming {
+
+	enum Phase {
+		BIND, APP, RENDER
+	}
+
+	private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+	private final long startedAt = System.nanoTime();
+	private final long[] phaseNanos = new long[Phase.values().length];
+	private Phase phase;
+	private long phaseStartedAt;
+	private long statementStartedAt;
+	private long dbNanos;
+	private int statements;
+	private long rows;
+
+	public static RequestTiming current() {
+		return CURRENT.get();
+	}
+
+	static RequestTiming start() {
+		RequestTiming timing = new RequestTiming();
+		CURRENT.set(timing);
+		return timing;
+	}
+
+	static void clear() {
+		CURRENT.remove();
+	}
+
+	void enter(Phase next) {
+		long now = System.nanoTime();
+		closePhase(now);
+		phase = next;
+		phaseStartedAt = now;
+	}
+
+	void leave() {
+		closePhase(System.nanoTime());
+		phase = null;
+	}
+
+	void statementStarted() {
+		statementStartedAt = System.nanoTime();
+	}
+
+	void statementFinished() {
+		dbNanos += System.nanoTime() - statementStartedAt;
+		statements++;
+	}
+
+	void rowFetched() {
+		rows++;
+	}
+
+	long elapsedNanos() {
+		return System.nanoTime() - startedAt;
+	}
+
+	/**
+	 * A phase still running counts up to now, so a header written while the
+	 * body is being serialized shows the render time so far.
+	 */
+	String toHeader() {
+		long now = System.nanoTime();
+		return String.format(Locale.ROOT,
+				"bind;dur=%.1f, app;dur=%.1f, db;dur=%.1f;desc=\"%d statements, %d rows\", render;dur=%.1f, total;dur=%.1f",
+				millis(phaseNanos(Phase.BIND, now)), millis(phaseNanos(Phase.APP, now)), millis(dbNanos), statements,
+				rows, millis(phaseNanos(Phase.RENDER, now)), millis(now - startedAt));
+	}
+
+	String toLogLine() {
+		long now = System.nanoTime();
+		return String.format(Locale.ROOT,
+				"bind_ms=%.1f app_ms=%.1f db_ms=%.1f statements=%d rows=%d render_ms=%.1f total_ms=%.1f",
+				millis(phaseNanos(Phase.BIND, now)), millis(phaseNanos(Phase.APP, now)), millis(dbNanos), statements,
+				rows, millis(phaseNanos(Phase.RENDER, now)), millis(now - startedAt));
+	}
+
+	private long phaseNanos(Phase measured, long now) {
+		return phaseNanos[measured.ordinal()] + (phase == measured ? now - phaseStartedAt : 0);
+	}
+
+	private void closePhase(long now) {
+		if (phase != null) {
+			phaseNanos[phase.ordinal()] += now - phaseStartedAt;
+		}
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+}
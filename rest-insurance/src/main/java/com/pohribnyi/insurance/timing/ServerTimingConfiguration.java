@@ -0,0 +1,45 @@
+package com.pohribnyi.insurance.timing;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ServerTimingProperties.class)
+@ConditionalOnProperty(name = "insurance.server-timing.enabled")
+public class ServerTimingConfiguration {
+
+	@Bean
+	public static JdbcTimingListener jdbcTimingListener() {
+		return new JdbcTimingListener();
+	}
+
+	@Bean
+	public WebMvcRegistrations timedHandlerAdapterRegistrations() {
+		return new WebMvcRegistrations() {
+
+			@Override
+			public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+				return new TimedRequestMappingHandlerAdapter();
+			}
+
+		};
+	}
+
+	@Bean
+	public FilterRegistrationBean<ServerTimingFilter> serverTimingFilterRegistration(
+			ServerTimingProperties properties) {
+		FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(
+				new ServerTimingFilter(properties));
+		registration.addUrlPatterns("/api/*");
+		// Outside the concurrency limiter, so shed requests are reported too
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 50);
+		return registration;
+	}
+
+}
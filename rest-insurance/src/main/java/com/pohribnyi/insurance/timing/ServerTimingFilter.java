@@ -0,0 +1,47 @@
+package com.pohribnyi.insurance.timing;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Times each API request and reports its phases in a {@code Server-Timing}
+ * header and, past the configured threshold, in a log line of
+ * {@code key=value} pairs. Requests that continue asynchronously are reported
+ * when their initial dispatch returns.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+	private static final Logger log = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+	private final ServerTimingProperties properties;
+
+	public ServerTimingFilter(ServerTimingProperties properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		RequestTiming timing = RequestTiming.start();
+		ServerTimingResponse timedResponse = new ServerTimingResponse(response, timing);
+		try {
+			chain.doFilter(request, timedResponse);
+		} finally {
+			RequestTiming.clear();
+			timedResponse.stamp();
+			if (log.isInfoEnabled() && timing.elapsedNanos() >= properties.logThreshold().toNanos()) {
+				log.info("method={} path={} status={} async={} {}", request.getMethod(), request.getRequestURI(),
+						response.getStatus(), request.isAsyncStarted(), timing.toLogLine());
+			}
+		}
+	}
+
+}
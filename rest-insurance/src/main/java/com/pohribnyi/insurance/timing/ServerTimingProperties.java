@@ -0,0 +1,16 @@
+package com.pohribnyi.insurance.timing;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Per-request timing is off unless {@code enabled}. Requests that take at
+ * least {@code logThreshold} are also written to the log.
+ */
+@ConfigurationProperties("insurance.server-timing")
+public record ServerTimingProperties(
+		@DefaultValue("false") boolean enabled,
+		@DefaultValue("0ms") Duration logThreshold) {
+}
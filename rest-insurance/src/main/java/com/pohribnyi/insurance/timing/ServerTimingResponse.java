@@ -0,0 +1,129 @@
+package com.pohribnyi.insurance.timing;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Adds the {@code Server-Timing} header just before the response commits,
+ * which for a body that fits the response buffer is once it has been fully
+ * serialized. Larger bodies commit while they are still being written, so
+ * their header carries the render time up to that point.
+ */
+class ServerTimingResponse extends HttpServletResponseWrapper {
+
+	static final String HEADER = "Server-Timing";
+
+	private final RequestTiming timing;
+	private ServletOutputStream outputStream;
+	private boolean stamped;
+
+	ServerTimingResponse(HttpServletResponse response, RequestTiming timing) {
+		super(response);
+		this.timing = timing;
+	}
+
+	void stamp() {
+		if (!stamped && !isCommitted()) {
+			setHeader(HEADER, timing.toHeader());
+		}
+		stamped = true;
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		if (outputStream == null) {
+			outputStream = new StampingOutputStream(super.getOutputStream());
+		}
+		return outputStream;
+	}
+
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		stamp();
+		return super.getWriter();
+	}
+
+	@Override
+	public void flushBuffer() throws IOException {
+		stamp();
+		super.flushBuffer();
+	}
+
+	@Override
+	public void sendError(int sc, String msg) throws IOException {
+		stamp();
+		super.sendError(sc, msg);
+	}
+
+	@Override
+	public void sendError(int sc) throws IOException {
+		stamp();
+		super.sendError(sc);
+	}
+
+	@Override
+	public void sendRedirect(String location) throws IOException {
+		stamp();
+		super.sendRedirect(location);
+	}
+
+	private final class StampingOutputStream extends ServletOutputStream {
+
+		private final ServletOutputStream delegate;
+		private long written;
+
+		StampingOutputStream(ServletOutputStream delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			beforeWrite(1);
+			delegate.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			beforeWrite(len);
+			delegate.write(b, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			stamp();
+			delegate.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			stamp();
+			delegate.close();
+		}
+
+		@Override
+		public boolean isReady() {
+			return delegate.isReady();
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			delegate.setWriteListener(writeListener);
+		}
+
+		private void beforeWrite(int length) {
+			if (!stamped) {
+				written += length;
+				if (written > getBufferSize()) {
+					stamp();
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.pohribnyi.insurance.timing;
+
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
+
+/**
+ * Splits handler invocation into its phases: resolving arguments, which reads
+ * and validates the request body, running the controller method, and writing
+ * its return value.
+ */
+class TimedRequestMappingHandlerAdapter extends RequestMappingHandlerAdapter {
+
+	@Override
+	protected ServletInvocableHandlerMethod createInvocableHandlerMethod(HandlerMethod handlerMethod) {
+		return new TimedHandlerMethod(handlerMethod);
+	}
+
+	private static final class TimedHandlerMethod extends ServletInvocableHandlerMethod {
+
+		TimedHandlerMethod(HandlerMethod handlerMethod) {
+			super(handlerMethod);
+		}
+
+		@Override
+		public void invokeAndHandle(ServletWebRequest webRequest, ModelAndViewContainer mavContainer,
+				Object... providedArgs) throws Exception {
+			RequestTiming timing = RequestTiming.current();
+			if (timing == null) {
+				super.invokeAndHandle(webRequest, mavContainer, providedArgs);
+				return;
+			}
+			timing.enter(RequestTiming.Phase.BIND);
+			try {
+				super.invokeAndHandle(webRequest, mavContainer, providedArgs);
+			} finally {
+				timing.leave();
+			}
+		}
+
+		@Override
+		protected Object doInvoke(Object... args) throws Exception {
+			RequestTiming timing = RequestTiming.current();
+			if (timing == null) {
+				return super.doInvoke(args);
+			}
+			timing.enter(RequestTiming.Phase.APP);
+			try {
+				return super.doInvoke(args);
+			} finally {
+				timing.enter(RequestTiming.Phase.RENDER);
+			}
+		}
+
+	}
+
+}
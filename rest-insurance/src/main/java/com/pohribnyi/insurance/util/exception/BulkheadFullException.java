@@ -0,0 +1,18 @@
+package com.pohribnyi.insurance.util.exception;
+
+import java.time.Duration;
+
+public class BulkheadFullException extends RuntimeException {
+
+	private final Duration retryAfter;
+
+	public BulkheadFullException(String bulkhead, Duration retryAfter) {
+		super("Too many concurrent " + bulkhead + " requests, please retry later");
+		this.retryAfter = retryAfter;
+	}
+
+	public Duration getRetryAfter() {
+		return retryAfter;
+	}
+
+}
@@ -0,0 +1,12 @@
+package com.pohribnyi.insurance.util.exception;
+
+/**
+ * The resource exists but its current state does not allow the request.
+ */
+public class ResourceConflictException extends RuntimeException {
+
+	public ResourceConflictException(String message) {
+		super(message);
+	}
+
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -12,7 +13,9 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.pohribnyi.insurance.dto.response.ErrorResponseDTO;
+import com.pohribnyi.insurance.util.exception.BulkheadFullException;
 import com.pohribnyi.insurance.util.exception.DuplicateResourceException;
+import com.pohribnyi.insurance.util.exception.ResourceConflictException;
 import com.pohribnyi.insurance.util.exception.ResourceNotFoundException;
 import com.pohribnyi.insurance.util.exception.ValidationException;
 
@@ -51,6 +54,21 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
 	}
 
+	@ExceptionHandler(ResourceConflictException.class)
+	public ResponseEntity<ErrorResponseDTO> handleResourceConflict(ResourceConflictException ex,
+			HttpServletRequest request) {
+
+		ErrorResponseDTO error = new ErrorResponseDTO(
+				LocalDateTime.now(), 
+				HttpStatus.CONFLICT.value(), 
+				"Conflict",
+				ex.getMessage(), 
+				request.getRequestURI(), 
+				null);
+
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+	}
+
 	@ExceptionHandler(ValidationException.class)
 	public ResponseEntity<ErrorResponseDTO> handleValidation(ValidationException ex, HttpServletRequest request) {
 
@@ -65,6 +83,22 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.badRequest().body(error);
 	}
 
+	@ExceptionHandler(BulkheadFullException.class)
+	public ResponseEntity<ErrorResponseDTO> handleBulkheadFull(BulkheadFullException ex, HttpServletRequest request) {
+
+		ErrorResponseDTO error = new ErrorResponseDTO(
+				LocalDateTime.now(), 
+				HttpStatus.SERVICE_UNAVAILABLE.value(),
+				"Service Unavailable", 
+				ex.getMessage(), 
+				request.getRequestURI(), 
+				null);
+
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()))
+				.body(error);
+	}
+
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<ErrorResponseDTO> handleValidationErrors(MethodArgumentNotValidException ex,
 			HttpServletRequest request) {
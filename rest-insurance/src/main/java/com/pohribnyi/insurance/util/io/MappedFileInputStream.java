@@ -0,0 +1,83 @@
+package com.pohribnyi.insurance.util.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file through consecutive read-only memory mappings of at most
+ * {@code regionSize} bytes, so files larger than a single mapping allows can
+ * still be read. Bytes are still copied into the caller's array; the gain
+ * over {@link java.io.FileInputStream} is only that pages are faulted in
+ * instead of fetched with a read system call per buffer. A region is dropped once read, but the
+ * JDK only unmaps it when the buffer is garbage collected, so several regions
+ * of a large file may stay mapped for a while; {@code regionSize} bounds each
+ * mapping, not the total.
+ */
+public class MappedFileInputStream extends InputStream {
+
+	private final FileChannel channel;
+	private final long size;
+	private final long regionSize;
+	private long mappedUpTo;
+	private MappedByteBuffer region;
+
+	public MappedFileInputStream(Path file, long regionSize) throws IOException {
+		if (regionSize <= 0 || regionSize > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Region size must be between 1 and " + Integer.MAX_VALUE + " bytes");
+		}
+		this.channel = FileChannel.open(file, StandardOpenOption.READ);
+		this.size = channel.size();
+		this.regionSize = regionSize;
+	}
+
+	@Override
+	public int read() throws IOException {
+		return nextRegion() ? region.get() & 0xFF : -1;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (!nextRegion()) {
+			return -1;
+		}
+		int count = Math.min(len, region.remaining());
+		region.get(b, off, count);
+		return count;
+	}
+
+	@Override
+	public int available() {
+		long remaining = (region != null ? region.remaining() : 0) + size - mappedUpTo;
+		return (int) Math.min(remaining, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public void close() throws IOException {
+		region = null;
+		channel.close();
+	}
+
+	/**
+	 * @return whether a region with unread bytes is mapped
+	 */
+	private boolean nextRegion() throws IOException {
+		if (region != null && region.hasRemaining()) {
+			return true;
+		}
+		if (mappedUpTo >= size) {
+			return false;
+		}
+		long length = Math.min(regionSize, size - mappedUpTo);
+		region = channel.map(FileChannel.MapMode.READ_ONLY, mappedUpTo, length);
+		mappedUpTo += length;
+		return true;
+	}
+
+}
@@ -0,0 +1,41 @@
+--liquibase formatted sql
+
+--changeset maksymus:005-20261019
+CREATE MATERIALIZED VIEW policy_type_statistics AS
+SELECT policy_type,
+       COUNT(*) AS total_count,
+       COUNT(*) FILTER (WHERE start_date <= CURRENT_DATE AND end_date >= CURRENT_DATE) AS active_count,
+       COUNT(*) FILTER (WHERE end_date < CURRENT_DATE) AS expired_count
+FROM insurance_policies
+GROUP BY policy_type;
+CREATE UNIQUE INDEX idx_policy_type_statistics ON policy_type_statistics(policy_type);
+-- rollback DROP MATERIALIZED VIEW policy_type_statistics;
+
+--changeset maksymus:006-20261019
+CREATE MATERIALIZED VIEW client_policy_statistics AS
+SELECT client_id,
+       COUNT(*) AS total_count,
+       COUNT(*) FILTER (WHERE start_date <= CURRENT_DATE AND end_date >= CURRENT_DATE) AS active_count,
+       COUNT(*) FILTER (WHERE end_date < CURRENT_DATE) AS expired_count
+FROM insurance_policies
+GROUP BY client_id;
+CREATE UNIQUE INDEX idx_client_policy_statistics ON client_policy_statistics(client_id);
+-- rollback DROP MATERIALIZED VIEW client_policy_statistics;
+
+--changeset maksymus:007-20261019
+CREATE MATERIALIZED VIEW policy_monthly_statistics AS
+SELECT month,
+       SUM(started) AS started_count,
+       SUM(expiring) AS expiring_count
+FROM (
+    SELECT date_trunc('month', start_date)::date AS month, 1 AS started, 0 AS expiring
+    FROM insurance_policies
+    WHERE start_date IS NOT NULL
+    UNION ALL
+    SELECT date_trunc('month', end_date)::date AS month, 0 AS started, 1 AS expiring
+    FROM insurance_policies
+    WHERE end_date IS NOT NULL
+) policy_months
+GROUP BY month;
+CREATE UNIQUE INDEX idx_policy_monthly_statistics ON policy_monthly_statistics(month);
+-- rollback DROP MATERIALIZED VIEW policy_monthly_statistics;
@@ -0,0 +1,17 @@
+--liquibase formatted sql
+
+--changeset maksymus:008-20261019
+ALTER TABLE insurance_policies DROP CONSTRAINT fk_policy_client;
+ALTER TABLE insurance_policies
+    ADD CONSTRAINT fk_policy_client FOREIGN KEY (client_id) REFERENCES clients(id) ON DELETE CASCADE;
+-- rollback ALTER TABLE insurance_policies DROP CONSTRAINT fk_policy_client;
+-- rollback ALTER TABLE insurance_policies ADD CONSTRAINT fk_policy_client FOREIGN KEY (client_id) REFERENCES clients(id);
+
+--changeset maksymus:009-20261019
+ALTER TABLE policy_covered_risks DROP CONSTRAINT fk_risks_policy;
+ALTER TABLE policy_covered_risks
+    ADD CONSTRAINT fk_risks_policy FOREIGN KEY (policy_id) REFERENCES insurance_policies(id) ON DELETE CASCADE;
+CREATE INDEX idx_covered_risks_policy_id ON policy_covered_risks(policy_id);
+-- rollback DROP INDEX idx_covered_risks_policy_id;
+-- rollback ALTER TABLE policy_covered_risks DROP CONSTRAINT fk_risks_policy;
+-- rollback ALTER TABLE policy_covered_risks ADD CONSTRAINT fk_risks_policy FOREIGN KEY (policy_id) REFERENCES insurance_policies(id);
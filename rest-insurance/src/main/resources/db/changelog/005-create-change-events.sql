@@ -0,0 +1,14 @@
+--liquibase formatted sql
+
+--changeset maksymus:010-20261019
+CREATE TABLE change_events (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    txid XID8 NOT NULL DEFAULT pg_current_xact_id(),
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id UUID NOT NULL,
+    operation VARCHAR(20) NOT NULL,
+    occurred_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_change_events_txid_id ON change_events(txid, id);
+CREATE INDEX idx_change_events_occurred_at ON change_events(occurred_at);
+-- rollback DROP TABLE change_events;
@@ -0,0 +1,11 @@
+--liquibase formatted sql
+
+--changeset maksymus:011-20261019
+DROP INDEX idx_client_email;
+DROP INDEX idx_policy_number;
+DROP INDEX idx_covered_risks_policy_id;
+CREATE INDEX idx_covered_risks_policy_id_risk ON policy_covered_risks(policy_id, covered_risks);
+-- rollback DROP INDEX idx_covered_risks_policy_id_risk;
+-- rollback CREATE INDEX idx_covered_risks_policy_id ON policy_covered_risks(policy_id);
+-- rollback CREATE INDEX idx_policy_number ON insurance_policies(policy_number);
+-- rollback CREATE INDEX idx_client_email ON clients(email);
@@ -0,0 +1,105 @@
+--liquibase formatted sql
+
+--changeset maksymus:012-20261019
+CREATE TABLE insurance_policies_archive (
+    id UUID PRIMARY KEY,
+    policy_number VARCHAR(255) NOT NULL UNIQUE,
+    policy_type VARCHAR(255),
+    start_date DATE,
+    end_date DATE,
+    client_id UUID NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_archived_policy_client FOREIGN KEY (client_id) REFERENCES clients(id) ON DELETE CASCADE
+);
+CREATE INDEX idx_archived_policy_client_id ON insurance_policies_archive(client_id);
+
+CREATE TABLE policy_covered_risks_archive (
+    policy_id UUID NOT NULL,
+    covered_risks VARCHAR(255),
+    CONSTRAINT fk_archived_risks_policy FOREIGN KEY (policy_id)
+        REFERENCES insurance_policies_archive(id) ON DELETE CASCADE
+);
+CREATE INDEX idx_archived_covered_risks_policy_id ON policy_covered_risks_archive(policy_id);
+
+CREATE INDEX idx_policy_end_date ON insurance_policies(end_date);
+-- rollback DROP INDEX idx_policy_end_date;
+-- rollback DROP TABLE policy_covered_risks_archive;
+-- rollback DROP TABLE insurance_policies_archive;
+
+--changeset maksymus:013-20261019 splitStatements:false
+-- The check cannot see an archival that has not committed yet, so writers hold a
+-- shared advisory lock keyed by the archive table until they commit, and archival
+-- takes it exclusively before it moves a chunk (PolicyArchiveRepository).
+CREATE FUNCTION reject_archived_policy_number() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND NEW.policy_number = OLD.policy_number THEN
+        RETURN NEW;
+    END IF;
+    PERFORM pg_advisory_xact_lock_shared('insurance_policies_archive'::regclass::oid::bigint);
+    IF EXISTS (SELECT 1 FROM insurance_policies_archive WHERE policy_number = NEW.policy_number) THEN
+        RAISE unique_violation USING
+            MESSAGE = 'duplicate key value violates unique constraint "insurance_policies_archive_policy_number_key"',
+            CONSTRAINT = 'insurance_policies_archive_policy_number_key';
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_reject_archived_policy_number
+    BEFORE INSERT OR UPDATE OF policy_number ON insurance_policies
+    FOR EACH ROW EXECUTE FUNCTION reject_archived_policy_number();
+-- rollback DROP TRIGGER trg_reject_archived_policy_number ON insurance_policies;
+-- rollback DROP FUNCTION reject_archived_policy_number();
+
+--changeset maksymus:014-20261019
+CREATE VIEW insurance_policies_all AS
+SELECT id, policy_number, policy_type, start_date, end_date, client_id FROM insurance_policies
+UNION ALL
+SELECT id, policy_number, policy_type, start_date, end_date, client_id FROM insurance_policies_archive;
+
+DROP MATERIALIZED VIEW policy_type_statistics;
+CREATE MATERIALIZED VIEW policy_type_statistics AS
+SELECT policy_type,
+       COUNT(*) AS total_count,
+       COUNT(*) FILTER (WHERE start_date <= CURRENT_DATE AND end_date >= CURRENT_DATE) AS active_count,
+       COUNT(*) FILTER (WHERE end_date < CURRENT_DATE) AS expired_count
+FROM insurance_policies_all
+GROUP BY policy_type;
+CREATE UNIQUE INDEX idx_policy_type_statistics ON policy_type_statistics(policy_type);
+
+DROP MATERIALIZED VIEW client_policy_statistics;
+CREATE MATERIALIZED VIEW client_policy_statistics AS
+SELECT client_id,
+       COUNT(*) AS total_count,
+       COUNT(*) FILTER (WHERE start_date <= CURRENT_DATE AND end_date >= CURRENT_DATE) AS active_count,
+       COUNT(*) FILTER (WHERE end_date < CURRENT_DATE) AS expired_count
+FROM insurance_policies_all
+GROUP BY client_id;
+CREATE UNIQUE INDEX idx_client_policy_statistics ON client_policy_statistics(client_id);
+
+DROP MATERIALIZED VIEW policy_monthly_statistics;
+CREATE MATERIALIZED VIEW policy_monthly_statistics AS
+SELECT month,
+       SUM(started) AS started_count,
+       SUM(expiring) AS expiring_count
+FROM (
+    SELECT date_trunc('month', start_date)::date AS month, 1 AS started, 0 AS expiring
+    FROM insurance_policies_all
+    WHERE start_date IS NOT NULL
+    UNION ALL
+    SELECT date_trunc('month', end_date)::date AS month, 0 AS started, 1 AS expiring
+    FROM insurance_policies_all
+    WHERE end_date IS NOT NULL
+) policy_months
+GROUP BY month;
+CREATE UNIQUE INDEX idx_policy_monthly_statistics ON policy_monthly_statistics(month);
+-- rollback DROP MATERIALIZED VIEW policy_type_statistics;
+-- rollback CREATE MATERIALIZED VIEW policy_type_statistics AS SELECT policy_type, COUNT(*) AS total_count, COUNT(*) FILTER (WHERE start_date <= CURRENT_DATE AND end_date >= CURRENT_DATE) AS active_count, COUNT(*) FILTER (WHERE end_date < CURRENT_DATE) AS expired_count FROM insurance_policies GROUP BY policy_type;
+-- rollback CREATE UNIQUE INDEX idx_policy_type_statistics ON policy_type_statistics(policy_type);
+-- rollback DROP MATERIALIZED VIEW client_policy_statistics;
+-- rollback CREATE MATERIALIZED VIEW client_policy_statistics AS SELECT client_id, COUNT(*) AS total_count, COUNT(*) FILTER (WHERE start_date <= CURRENT_DATE AND end_date >= CURRENT_DATE) AS active_count, COUNT(*) FILTER (WHERE end_date < CURRENT_DATE) AS expired_count FROM insurance_policies GROUP BY client_id;
+-- rollback CREATE UNIQUE INDEX idx_client_policy_statistics ON client_policy_statistics(client_id);
+-- rollback DROP MATERIALIZED VIEW policy_monthly_statistics;
+-- rollback CREATE MATERIALIZED VIEW policy_monthly_statistics AS SELECT month, SUM(started) AS started_count, SUM(expiring) AS expiring_count FROM (SELECT date_trunc('month', start_date)::date AS month, 1 AS started, 0 AS expiring FROM insurance_policies WHERE start_date IS NOT NULL UNION ALL SELECT date_trunc('month', end_date)::date AS month, 0 AS started, 1 AS expiring FROM insurance_policies WHERE end_date IS NOT NULL) policy_months GROUP BY month;
+-- rollback CREATE UNIQUE INDEX idx_policy_monthly_statistics ON policy_monthly_statistics(month);
+-- rollback DROP VIEW insurance_policies_all;
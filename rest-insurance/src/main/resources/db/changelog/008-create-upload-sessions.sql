@@ -0,0 +1,28 @@
+--liquibase formatted sql
+
+--changeset maksymus:015-20261019
+CREATE TABLE upload_sessions (
+    id UUID PRIMARY KEY,
+    next_chunk INTEGER NOT NULL DEFAULT 0,
+    success_count BIGINT NOT NULL DEFAULT 0,
+    failure_count BIGINT NOT NULL DEFAULT 0,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE upload_chunks (
+    session_id UUID NOT NULL,
+    chunk_index INTEGER NOT NULL,
+    success_count INTEGER NOT NULL,
+    failure_count INTEGER NOT NULL,
+    content_size BIGINT NOT NULL,
+    content_sha256 BYTEA NOT NULL,
+    committed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_upload_chunks PRIMARY KEY (session_id, chunk_index),
+    CONSTRAINT fk_upload_chunk_session FOREIGN KEY (session_id) REFERENCES upload_sessions(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_upload_sessions_updated_at ON upload_sessions(updated_at);
+-- rollback DROP TABLE upload_chunks;
+-- rollback DROP TABLE upload_sessions;
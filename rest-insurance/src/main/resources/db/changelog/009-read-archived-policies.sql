@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset maksymus:016-20261019
+CREATE VIEW policy_covered_risks_all AS
+SELECT policy_id, covered_risks FROM policy_covered_risks
+UNION ALL
+SELECT policy_id, covered_risks FROM policy_covered_risks_archive;
+-- rollback DROP VIEW policy_covered_risks_all;
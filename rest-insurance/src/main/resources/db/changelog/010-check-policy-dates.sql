@@ -0,0 +1,5 @@
+--liquibase formatted sql
+
+--changeset maksymus:017-20261019
+ALTER TABLE insurance_policies ADD CONSTRAINT chk_policy_end_after_start CHECK (end_date > start_date);
+-- rollback ALTER TABLE insurance_policies DROP CONSTRAINT chk_policy_end_after_start;
@@ -2,16 +2,23 @@ package com.pohribnyi.insurance;
 
 import java.util.TimeZone;
 
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
 
+import com.pohribnyi.insurance.cache.PolicyResultCache;
+
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
+@Import(SqlStatementCounter.class)
 public abstract class BaseIntegrationTest {
 
 	static final PostgreSQLContainer<?> POSTGRE_SQL_CONTAINER = new PostgreSQLContainer<>("postgres:15")
@@ -30,4 +37,28 @@ public abstract class BaseIntegrationTest {
 		registry.add("spring.datasource.username", POSTGRE_SQL_CONTAINER::getUsername);
 		registry.add("spring.datasource.password", POSTGRE_SQL_CONTAINER::getPassword);
 	}
+
+	@Autowired
+	private PolicyResultCache resultCache;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Fixtures truncate and seed tables directly, which does not bump the data
+	 * version, so every test starts from an empty result cache.
+	 */
+	@BeforeEach
+	void clearResultCache() {
+		resultCache.clear();
+	}
+
+	/**
+	 * Empties the client and policy tables, archive and change feed included,
+	 * for tests that seed their fixtures with SQL.
+	 */
+	protected void truncateTables() {
+		jdbcTemplate.execute("TRUNCATE clients, insurance_policies, policy_covered_risks, "
+				+ "insurance_policies_archive, policy_covered_risks_archive, change_events");
+	}
 }
\ No newline at end of file
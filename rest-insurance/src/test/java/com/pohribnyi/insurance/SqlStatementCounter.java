@@ -0,0 +1,116 @@
+package com.pohribnyi.insurance;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Wraps the application {@link DataSource} and records JDBC executions, so tests
+ * can assert how many round trips a request takes. A JDBC batch counts as one.
+ * Statements of scheduled jobs, such as the statistics refresh, change feed
+ * delivery or archival, are not recorded, so they never land in the count of a
+ * request that happens to run alongside: every task of the scheduler is
+ * decorated to mark its thread while it runs.
+ */
+@TestComponent
+public class SqlStatementCounter implements BeanPostProcessor, QueryExecutionListener {
+
+	private static final ThreadLocal<Boolean> SCHEDULED = ThreadLocal.withInitial(() -> false);
+
+	private final List<ExecutedStatement> statements = new CopyOnWriteArrayList<>();
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) {
+		if (bean instanceof ThreadPoolTaskScheduler scheduler) {
+			scheduler.setTaskDecorator(SqlStatementCounter::unrecorded);
+		} else if (bean instanceof SimpleAsyncTaskScheduler scheduler) {
+			scheduler.setTaskDecorator(SqlStatementCounter::unrecorded);
+		}
+		return bean;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof DataSource dataSource) {
+			return ProxyDataSourceBuilder.create(dataSource)
+					.name(beanName)
+					.listener(this)
+					.build();
+		}
+		return bean;
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		if (SCHEDULED.get()) {
+			return;
+		}
+		QueryInfo queryInfo = queryInfoList.get(0);
+		List<Object> parameters = queryInfo.getParametersList().isEmpty() 
+				? List.of()
+				: queryInfo.getParametersList().get(0).stream()
+						.sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+						.map(SqlStatementCounter::parameterValue)
+						.toList();
+		statements.add(new ExecutedStatement(queryInfo.getQuery(), parameters, execInfo.isBatch()));
+	}
+
+	public void reset() {
+		statements.clear();
+	}
+
+	public int count() {
+		return statements.size();
+	}
+
+	public List<ExecutedStatement> statements() {
+		return List.copyOf(statements);
+	}
+
+	/**
+	 * A {@link TaskDecorator} that leaves the statements of {@code task} out of
+	 * the count.
+	 */
+	private static Runnable unrecorded(Runnable task) {
+		return () -> {
+			SCHEDULED.set(true);
+			try {
+				task.run();
+			} finally {
+				SCHEDULED.remove();
+			}
+		};
+	}
+
+	private static Object parameterValue(ParameterSetOperation operation) {
+		return "setNull".equals(operation.getMethod().getName()) ? null : operation.getArgs()[1];
+	}
+
+	public record ExecutedStatement(String sql, List<Object> parameters, boolean batch) {
+
+		@Override
+		public String toString() {
+			return sql + (batch ? " [batch]" : "");
+		}
+
+	}
+
+}
@@ -0,0 +1,162 @@
+package com.pohribnyi.insurance.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.dto.request.ClientRequestDTO;
+import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.repository.ClientBulkRepository;
+import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+import com.pohribnyi.insurance.service.InsurancePolicyService;
+
+/**
+ * Compares the index layout of {@code 001-create-schema.sql} with the one left
+ * by {@code 006-index-audit.sql}: bulk insert throughput, total index size and
+ * the latency of the lookups that the dropped or reshaped indexes served. Both
+ * layouts run on the same freshly seeded data after an unmeasured warm-up
+ * round; the audited layout is restored afterwards. Run with
+ * {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Index Layout Benchmark")
+class IndexLayoutBenchmarkTest extends BaseIntegrationTest {
+
+	private static final int CLIENTS = 200;
+	private static final int POLICIES_PER_CLIENT = 100;
+	private static final int RISKS_PER_POLICY = 3;
+	private static final int IMPORTED_CLIENTS = 20_000;
+	private static final int UPLOADED_POLICIES = 2_000;
+	private static final int LOOKUPS = 2_000;
+
+	private static final List<String> LEGACY_LAYOUT = List.of(
+			"CREATE INDEX IF NOT EXISTS idx_client_email ON clients(email)",
+			"CREATE INDEX IF NOT EXISTS idx_policy_number ON insurance_policies(policy_number)",
+			"CREATE INDEX IF NOT EXISTS idx_covered_risks_policy_id ON policy_covered_risks(policy_id)",
+			"DROP INDEX IF EXISTS idx_covered_risks_policy_id_risk");
+
+	private static final List<String> AUDITED_LAYOUT = List.of(
+			"DROP INDEX IF EXISTS idx_client_email",
+			"DROP INDEX IF EXISTS idx_policy_number",
+			"DROP INDEX IF EXISTS idx_covered_risks_policy_id",
+			"CREATE INDEX IF NOT EXISTS idx_covered_risks_policy_id_risk ON policy_covered_risks(policy_id, covered_risks)");
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ClientBulkRepository clientBulkRepository;
+
+	@Autowired
+	private ClientRepository clientRepository;
+
+	@Autowired
+	private InsurancePolicyRepository policyRepository;
+
+	@Autowired
+	private InsurancePolicyService policyService;
+
+	@AfterEach
+	void tearDown() {
+		AUDITED_LAYOUT.forEach(jdbcTemplate::execute);
+		truncateTables();
+	}
+
+	@Test
+	@DisplayName("Benchmark legacy and audited index layouts functionality")
+	void benchmarkIndexLayouts() {
+		run("warm-up", AUDITED_LAYOUT);
+		run("legacy", LEGACY_LAYOUT);
+		run("audited", AUDITED_LAYOUT);
+	}
+
+	private void run(String layout, List<String> statements) {
+		PolicyDataSeeder seeder = new PolicyDataSeeder(jdbcTemplate);
+		truncateTables();
+		statements.forEach(jdbcTemplate::execute);
+		seeder.seed(CLIENTS, POLICIES_PER_CLIENT, RISKS_PER_POLICY);
+
+		List<ClientRequestDTO> imported = IntStream.range(0, IMPORTED_CLIENTS)
+				.mapToObj(i -> new ClientRequestDTO("Bulk", "Client" + i, "bulk-" + layout + i + "@example.com"))
+				.toList();
+		long importNanos = measure(() -> {
+			for (int from = 0; from < imported.size(); from += 1_000) {
+				clientBulkRepository.insertNew(imported.subList(from, from + 1_000));
+			}
+		});
+		report(layout, "client import", IMPORTED_CLIENTS, importNanos);
+
+		UUID clientId = seeder.clientIds().get(0);
+		long uploadNanos = measure(() -> IntStream.range(0, UPLOADED_POLICIES)
+				.forEach(i -> policyService.createPolicy(new CreateInsurancePolicyRequestDTO(
+						"BENCH-" + layout + "-" + i,
+						"Auto",
+						LocalDate.now().plusDays(1),
+						LocalDate.now().plusYears(1),
+						List.of("Collision", "Theft", "Glass"),
+						clientId))));
+		report(layout, "policy upload", UPLOADED_POLICIES, uploadNanos);
+
+		jdbcTemplate.execute("VACUUM ANALYZE clients, insurance_policies, policy_covered_risks");
+		if (!layout.equals("warm-up")) {
+			System.out.printf("[benchmark] %-8s %-24s %10.1f kB%n", layout, "index size", indexBytes() / 1024.0);
+		}
+
+		List<String> emails = jdbcTemplate.queryForList("SELECT email FROM clients ORDER BY id LIMIT ?", String.class,
+				LOOKUPS);
+		List<String> policyNumbers = jdbcTemplate.queryForList(
+				"SELECT policy_number FROM insurance_policies ORDER BY id LIMIT ?", String.class, LOOKUPS);
+		List<UUID> policyIds = seeder.policyIds(LOOKUPS);
+
+		latency(layout, "client by email", measure(() -> emails.forEach(clientRepository::existsByEmail)));
+		latency(layout, "policy by number",
+				measure(() -> policyNumbers.forEach(policyRepository::existsByPolicyNumber)));
+		latency(layout, "policy with risks by id", measure(() -> policyIds.forEach(policyService::getPolicyById)));
+
+		assertThat(clientRepository.count()).isEqualTo(CLIENTS + IMPORTED_CLIENTS);
+	}
+
+	private long indexBytes() {
+		return jdbcTemplate.queryForObject("""
+				SELECT sum(pg_relation_size(indexrelid))
+				FROM pg_index
+				WHERE indrelid IN ('clients'::regclass, 'insurance_policies'::regclass, 'policy_covered_risks'::regclass)
+				""", Long.class);
+	}
+
+	private long measure(Runnable action) {
+		long start = System.nanoTime();
+		action.run();
+		return System.nanoTime() - start;
+	}
+
+	private void report(String layout, String scenario, int rows, long elapsedNanos) {
+		if (layout.equals("warm-up")) {
+			return;
+		}
+		double seconds = elapsedNanos / 1_000_000_000.0;
+		System.out.printf("[benchmark] %-8s %-24s %7d rows in %8.3f s -> %10.1f rows/s%n", layout, scenario, rows,
+				seconds, rows / seconds);
+	}
+
+	private void latency(String layout, String scenario, long elapsedNanos) {
+		if (layout.equals("warm-up")) {
+			return;
+		}
+		System.out.printf("[benchmark] %-8s %-24s %10.1f us/op%n", layout, scenario,
+				elapsedNanos / 1_000.0 / LOOKUPS);
+	}
+
+}
@@ -0,0 +1,114 @@
+package com.pohribnyi.insurance.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+import com.pohribnyi.insurance.service.ClientService;
+import com.pohribnyi.insurance.service.InsurancePolicyService;
+
+/**
+ * Compares delete throughput of the single-statement paths against the
+ * entity-based {@code existsById} + {@code deleteById} path they replaced. Run
+ * with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Policy Delete Throughput Benchmark")
+class PolicyDeleteBenchmarkTest extends BaseIntegrationTest {
+
+	private static final int CLIENTS = 20;
+	private static final int POLICIES_PER_CLIENT = 500;
+	private static final int RISKS_PER_POLICY = 3;
+	private static final int DELETES = 2_000;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private InsurancePolicyRepository policyRepository;
+
+	@Autowired
+	private InsurancePolicyService policyService;
+
+	@Autowired
+	private ClientService clientService;
+
+	private PolicyDataSeeder seeder;
+
+	@BeforeEach
+	void setUp() {
+		seeder = new PolicyDataSeeder(jdbcTemplate);
+		truncateTables();
+		seeder.seed(CLIENTS, POLICIES_PER_CLIENT, RISKS_PER_POLICY);
+	}
+
+	@AfterEach
+	void tearDown() {
+		truncateTables();
+	}
+
+	@Test
+	@DisplayName("Benchmark single-statement policy delete functionality")
+	void benchmarkSingleStatementDelete() {
+		List<UUID> ids = seeder.policyIds(DELETES);
+
+		long elapsed = measure(() -> ids.forEach(policyService::deletePolicy));
+
+		report("single-statement delete", ids.size(), elapsed);
+		assertThat(policyRepository.count()).isEqualTo(CLIENTS * POLICIES_PER_CLIENT - DELETES);
+	}
+
+	@Test
+	@DisplayName("Benchmark entity-based policy delete functionality")
+	void benchmarkEntityDelete() {
+		List<UUID> ids = seeder.policyIds(DELETES);
+
+		long elapsed = measure(() -> ids.forEach(id -> transactionTemplate.executeWithoutResult(status -> {
+			if (policyRepository.existsById(id)) {
+				policyRepository.deleteById(id);
+			}
+		})));
+
+		report("entity-based delete", ids.size(), elapsed);
+		assertThat(policyRepository.count()).isEqualTo(CLIENTS * POLICIES_PER_CLIENT - DELETES);
+	}
+
+	@Test
+	@DisplayName("Benchmark cascading client delete functionality")
+	void benchmarkCascadingClientDelete() {
+		List<UUID> clientIds = seeder.clientIds();
+
+		long elapsed = measure(() -> clientIds.forEach(clientService::deleteClient));
+
+		report("cascading client delete (policies)", CLIENTS * POLICIES_PER_CLIENT, elapsed);
+		assertThat(policyRepository.count()).isZero();
+	}
+
+	private long measure(Runnable action) {
+		long start = System.nanoTime();
+		action.run();
+		return System.nanoTime() - start;
+	}
+
+	private void report(String scenario, int rows, long elapsedNanos) {
+		double seconds = elapsedNanos / 1_000_000_000.0;
+		System.out.printf("[benchmark] %-36s %7d rows in %8.3f s -> %10.1f rows/s%n", scenario, rows, seconds,
+				rows / seconds);
+	}
+
+}
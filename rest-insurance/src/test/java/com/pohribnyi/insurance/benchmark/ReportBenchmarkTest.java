@@ -0,0 +1,98 @@
+package com.pohribnyi.insurance.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.bulkhead.Bulkheads;
+import com.pohribnyi.insurance.bulkhead.Workload;
+import com.pohribnyi.insurance.cache.PolicyResultCache;
+import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
+import com.pohribnyi.insurance.repository.PolicyReportRepository;
+import com.pohribnyi.insurance.service.ReportProperties;
+import com.pohribnyi.insurance.service.ReportService;
+
+/**
+ * Measures the full CSV report read as a single range and split into several
+ * id ranges read in parallel. Every variant must produce the same bytes. Run
+ * with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Report Benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReportBenchmarkTest extends BaseIntegrationTest {
+
+	private static final int CLIENTS = 2_000;
+	private static final int POLICIES_PER_CLIENT = 100;
+	private static final int ROUNDS = 5;
+	private static final int[] PARTITIONS = { 1, 2, 4 };
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PolicyReportRepository reportRepository;
+
+	@Autowired
+	private Bulkheads bulkheads;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private PolicyResultCache resultCache;
+
+	private PolicyDataSeeder seeder;
+
+	@BeforeAll
+	void seed() {
+		seeder = new PolicyDataSeeder(jdbcTemplate);
+		truncateTables();
+		seeder.seed(CLIENTS, POLICIES_PER_CLIENT, 1);
+		jdbcTemplate.execute("VACUUM ANALYZE clients, insurance_policies");
+	}
+
+	@AfterAll
+	void clear() {
+		truncateTables();
+	}
+
+	@Test
+	@DisplayName("Benchmark sequential and parallel report functionality")
+	void benchmarkReport() throws Exception {
+		PolicyPageableRequestDTO request = new PolicyPageableRequestDTO(null, null, null, null, null);
+		byte[] expected = generate(1, request);
+
+		for (int partitions : PARTITIONS) {
+			generate(partitions, request);
+			long start = System.nanoTime();
+			for (int round = 0; round < ROUNDS; round++) {
+				assertThat(generate(partitions, request)).isEqualTo(expected);
+			}
+			double millis = (System.nanoTime() - start) / 1_000_000.0 / ROUNDS;
+			System.out.printf("[benchmark] %d partition(s) %7d rows %10.1f ms/report%n", partitions,
+					CLIENTS * POLICIES_PER_CLIENT, millis);
+		}
+	}
+
+	private byte[] generate(int partitions, PolicyPageableRequestDTO request) throws Exception {
+		ReportService reportService = new ReportService(reportRepository, bulkheads, new ReportProperties(partitions),
+				transactionManager, resultCache);
+		Workload previous = Workload.BULK.enter();
+		try {
+			return reportService.generateCsvReport(request);
+		} finally {
+			previous.enter();
+		}
+	}
+
+}
@@ -0,0 +1,144 @@
+package com.pohribnyi.insurance.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyPageableResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicySummaryResponseDTO;
+
+/**
+ * Compares serialization throughput and payload size of the reflective
+ * default mapper against the application mapper (Blackbird plus hand-written
+ * serializers) and its Smile and CBOR variants. Run with
+ * {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Response Serialization Benchmark")
+class SerializationBenchmarkTest extends BaseIntegrationTest {
+
+	private static final int PAGE_SIZE = 5_000;
+	private static final int POLICIES = 1_000;
+	private static final int WARMUP_ROUNDS = 30;
+	private static final int MEASURED_ROUNDS = 100;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+	@Autowired
+	private MappingJackson2CborHttpMessageConverter cborConverter;
+
+	@Test
+	@DisplayName("Benchmark policy page serialization functionality")
+	void benchmarkPageSerialization() throws IOException {
+		PolicyPageableResponseDTO page = page();
+
+		compare("page", PolicyPageableResponseDTO.class, page);
+	}
+
+	@Test
+	@DisplayName("Benchmark full policy serialization functionality")
+	void benchmarkPolicySerialization() throws IOException {
+		List<InsurancePolicyResponseDTO> policies = policies();
+
+		compare("policies", List.class, policies);
+	}
+
+	private void compare(String payload, Class<?> type, Object value) throws IOException {
+		ObjectMapper reflective = JsonMapper.builder()
+				.addModule(new JavaTimeModule())
+				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+				.build();
+
+		long baseline = run(payload + " reflective json", reflective.writerFor(type), value);
+		long json = run(payload + " optimized json", objectMapper.writerFor(type), value);
+		run(payload + " optimized smile", smileConverter.getObjectMapper().writerFor(type), value);
+		run(payload + " optimized cbor", cborConverter.getObjectMapper().writerFor(type), value);
+
+		assertThat(objectMapper.writeValueAsString(value)).isEqualTo(reflective.writeValueAsString(value));
+		System.out.printf("[benchmark] %-28s speedup %.2fx%n", payload + " json", (double) baseline / json);
+	}
+
+	private long run(String scenario, ObjectWriter writer, Object value) throws IOException {
+		CountingOutputStream out = new CountingOutputStream();
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			writer.writeValue(out, value);
+		}
+		out.count = 0;
+
+		long start = System.nanoTime();
+		for (int i = 0; i < MEASURED_ROUNDS; i++) {
+			writer.writeValue(out, value);
+		}
+		long elapsed = System.nanoTime() - start;
+
+		double seconds = elapsed / 1_000_000_000.0;
+		long bytesPerPayload = out.count / MEASURED_ROUNDS;
+		System.out.printf("[benchmark] %-28s %9d bytes  %8.1f payloads/s  %8.1f MB/s%n", scenario, bytesPerPayload,
+				MEASURED_ROUNDS / seconds, out.count / seconds / 1_000_000);
+		return elapsed;
+	}
+
+	private static PolicyPageableResponseDTO page() {
+		List<PolicySummaryResponseDTO> list = new ArrayList<>(PAGE_SIZE);
+		LocalDate start = LocalDate.of(2026, 1, 1);
+		for (int i = 0; i < PAGE_SIZE; i++) {
+			list.add(new PolicySummaryResponseDTO(UUID.randomUUID(), "POL-" + i, "Auto", start.plusDays(i % 365),
+					start.plusDays(i % 365).plusYears(1)));
+		}
+		return new PolicyPageableResponseDTO(list, 20);
+	}
+
+	private static List<InsurancePolicyResponseDTO> policies() {
+		List<InsurancePolicyResponseDTO> policies = new ArrayList<>(POLICIES);
+		LocalDate start = LocalDate.of(2026, 1, 1);
+		for (int i = 0; i < POLICIES; i++) {
+			ClientResponseDTO client = new ClientResponseDTO(UUID.randomUUID(), "First" + i, "Last" + i,
+					"client" + i + "@example.com");
+			policies.add(new InsurancePolicyResponseDTO(UUID.randomUUID(), "POL-" + i, "Health",
+					start.plusDays(i % 365), start.plusDays(i % 365).plusYears(1),
+					List.of("Hospital", "Medical", "Surgery"), client));
+		}
+		return policies;
+	}
+
+	private static final class CountingOutputStream extends OutputStream {
+
+		private long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+
+	}
+
+}
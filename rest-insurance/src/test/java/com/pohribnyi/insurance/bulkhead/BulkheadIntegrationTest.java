@@ -0,0 +1,143 @@
+package com.pohribnyi.insurance.bulkhead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.pohribnyi.insurance.BaseIntegrationTest;
+
+@DisplayName("Bulkhead Integration Tests")
+class BulkheadIntegrationTest extends BaseIntegrationTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private Bulkheads bulkheads;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private BulkheadProperties bulkheadProperties;
+
+	@Test
+	@DisplayName("Test report rejected with 503 and Retry-After when bulkhead is full functionality")
+	void shouldRejectReportWhenBulkheadIsFull() throws Exception {
+		// given: the test profile allows one running and one queued report
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Boolean> running = bulkheads.report().submit(() -> release.await(10, TimeUnit.SECONDS));
+		CompletableFuture<Boolean> queued = bulkheads.report().submit(() -> release.await(10, TimeUnit.SECONDS));
+
+		try {
+			// when
+			// then
+			mockMvc.perform(post("/api/insurance_policy/_report")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content("{\"page\":0,\"size\":5}"))
+					.andExpect(status().isServiceUnavailable())
+					.andExpect(header().string("Retry-After", "5"))
+					.andExpect(jsonPath("$.status").value(503));
+		} finally {
+			release.countDown();
+		}
+		assertThat(running.get(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(queued.get(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	@DisplayName("Test bulk jobs use dedicated connection pool functionality")
+	void shouldUseBulkPoolInsideBulkhead() throws Exception {
+		// given
+		int oltpActiveBefore = activeConnections(Workload.OLTP);
+
+		// when
+		int bulkActiveWhileHolding = bulkheads.upload().submit(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				return activeConnections(Workload.BULK);
+			}
+		}).get(10, TimeUnit.SECONDS);
+
+		// then
+		assertThat(bulkActiveWhileHolding).isEqualTo(1);
+		assertThat(activeConnections(Workload.OLTP)).isEqualTo(oltpActiveBefore);
+		assertThat(Workload.current()).isEqualTo(Workload.OLTP);
+	}
+
+	@Test
+	@DisplayName("Test partitioned report completes while uploads hold the bulk pool functionality")
+	void shouldCompletePartitionedReportWhileUploadsHoldBulkPool() throws Exception {
+		// given: running uploads and other bulk jobs leave one bulk connection, for the report itself
+		int busy = bulkheadProperties.bulkPoolSize() - 1;
+		CountDownLatch held = new CountDownLatch(busy);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService otherJobs = Executors.newFixedThreadPool(busy);
+		List<CompletableFuture<Void>> holders = new ArrayList<>();
+		for (int i = 0; i < busy; i++) {
+			holders.add(i < bulkheadProperties.upload().threads()
+					? bulkheads.upload().submit(() -> holdBulkConnection(held, release))
+					: CompletableFuture.supplyAsync(() -> holdBulkConnection(held, release), otherJobs));
+		}
+
+		try {
+			assertThat(held.await(10, TimeUnit.SECONDS)).isTrue();
+
+			// when
+			MvcResult result = mockMvc.perform(post("/api/insurance_policy/_report")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content("{\"policyType\":\"Bulkhead\"}"))
+					.andExpect(request().asyncStarted())
+					.andReturn();
+
+			// then
+			mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+			assertThat(activeConnections(Workload.BULK)).isEqualTo(busy);
+		} finally {
+			release.countDown();
+			otherJobs.shutdown();
+		}
+		CompletableFuture.allOf(holders.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+	}
+
+	private Void holdBulkConnection(CountDownLatch held, CountDownLatch release) {
+		Workload previous = Workload.BULK.enter();
+		try (Connection connection = dataSource.getConnection()) {
+			held.countDown();
+			release.await(60, TimeUnit.SECONDS);
+			return null;
+		} catch (SQLException | InterruptedException e) {
+			throw new IllegalStateException(e);
+		} finally {
+			previous.enter();
+		}
+	}
+
+	private int activeConnections(Workload workload) throws SQLException {
+		var pool = dataSource.unwrap(WorkloadRoutingDataSource.class).pool(workload).getHikariPoolMXBean();
+		return pool == null ? 0 : pool.getActiveConnections();
+	}
+
+}
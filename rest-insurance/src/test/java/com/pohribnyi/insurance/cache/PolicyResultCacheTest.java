@@ -0,0 +1,160 @@
+package com.pohribnyi.insurance.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.test.context.TestPropertySource;
+
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.SqlStatementCounter;
+import com.pohribnyi.insurance.dto.request.ClientRequestDTO;
+import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyPageableResponseDTO;
+import com.pohribnyi.insurance.service.ClientService;
+import com.pohribnyi.insurance.service.InsurancePolicyService;
+import com.pohribnyi.insurance.service.ReportService;
+
+@DisplayName("Policy Result Cache Tests")
+@TestPropertySource(properties = {
+		"insurance.result-cache.enabled=true",
+		"insurance.result-cache.max-entries=3",
+		"insurance.result-cache.spill-threshold=1KB",
+		"insurance.result-cache.directory=${java.io.tmpdir}/policy-result-cache-test" })
+class PolicyResultCacheTest extends BaseIntegrationTest {
+
+	@Autowired
+	private InsurancePolicyService policyService;
+
+	@Autowired
+	private ReportService reportService;
+
+	@Autowired
+	private ClientService clientService;
+
+	@Autowired
+	private SqlStatementCounter statementCounter;
+
+	@Value("${insurance.result-cache.directory}")
+	private Path cacheDirectory;
+
+	private UUID clientId;
+
+	@BeforeEach
+	void setUp() {
+		truncateTables();
+		clientId = clientService.createClient(new ClientRequestDTO("Cache", "Client", "cache@example.com")).id();
+	}
+
+	@Test
+	@DisplayName("Test repeated list served from cache until data changes functionality")
+	void shouldServeListFromCacheUntilDataChanges() throws Exception {
+		// given
+		createPolicy("POL-CACHE-001");
+		PolicyPageableRequestDTO request = new PolicyPageableRequestDTO(clientId, null, null, 0, 10);
+		PolicyPageableResponseDTO first = policyService.getPolicies(request);
+
+		// when
+		statementCounter.reset();
+		PolicyPageableResponseDTO repeated = policyService.getPolicies(request);
+		int repeatedStatements = statementCounter.count();
+		createPolicy("POL-CACHE-002");
+		PolicyPageableResponseDTO afterWrite = policyService.getPolicies(request);
+
+		// then
+		assertThat(repeated).isSameAs(first);
+		assertThat(repeatedStatements).isZero();
+		assertThat(first.list()).hasSize(1);
+		assertThat(afterWrite.list()).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("Test blank filters share the cache entry of absent filters functionality")
+	void shouldNormalizeBlankFilters() throws Exception {
+		// given
+		createPolicy("POL-CACHE-001");
+		PolicyPageableResponseDTO first = policyService.getPolicies(new PolicyPageableRequestDTO(null, null, null, 0, 10));
+
+		// when
+		statementCounter.reset();
+		PolicyPageableResponseDTO blank = policyService
+				.getPolicies(new PolicyPageableRequestDTO(null, " ", "", 0, 10));
+
+		// then
+		assertThat(blank).isSameAs(first);
+		assertThat(statementCounter.count()).isZero();
+	}
+
+	@Test
+	@DisplayName("Test large report spilled to disk and served from it functionality")
+	void shouldSpillLargeReportToDisk() throws Exception {
+		// given
+		for (int i = 0; i < 20; i++) {
+			createPolicy("POL-CACHE-" + i);
+		}
+		PolicyPageableRequestDTO request = new PolicyPageableRequestDTO(null, null, null, null, null);
+		byte[] first = reportService.generateCsvReport(request);
+
+		// when
+		statementCounter.reset();
+		byte[] repeated = reportService.generateCsvReport(request);
+
+		// then
+		assertThat(first.length).isGreaterThan(1024);
+		assertThat(repeated).isEqualTo(first);
+		assertThat(statementCounter.count()).isZero();
+		assertThat(spilledFiles()).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("Test least recently used entry evicted beyond max entries functionality")
+	void shouldEvictLeastRecentlyUsedEntry() throws Exception {
+		// given
+		createPolicy("POL-CACHE-001");
+		List<PolicyPageableResponseDTO> pages = Stream.of(0, 1, 2, 3)
+				.map(page -> policyService.getPolicies(new PolicyPageableRequestDTO(null, null, null, page, 10)))
+				.toList();
+
+		// when
+		statementCounter.reset();
+		policyService.getPolicies(new PolicyPageableRequestDTO(null, null, null, 3, 10));
+		int recentStatements = statementCounter.count();
+		statementCounter.reset();
+		PolicyPageableResponseDTO evicted = policyService
+				.getPolicies(new PolicyPageableRequestDTO(null, null, null, 0, 10));
+
+		// then
+		assertThat(recentStatements).isZero();
+		assertThat(statementCounter.count()).isPositive();
+		assertThat(evicted).isNotSameAs(pages.get(0)).isEqualTo(pages.get(0));
+	}
+
+	private void createPolicy(String policyNumber) {
+		policyService.createPolicy(new CreateInsurancePolicyRequestDTO(
+				policyNumber,
+				"Auto",
+				LocalDate.now().plusDays(1),
+				LocalDate.now().plusYears(1),
+				List.of("Collision"),
+				clientId));
+	}
+
+	private List<Path> spilledFiles() throws IOException {
+		try (Stream<Path> files = Files.walk(cacheDirectory)) {
+			return files.filter(Files::isRegularFile).toList();
+		}
+	}
+
+}
@@ -0,0 +1,240 @@
+package com.pohribnyi.insurance.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.dto.request.ClientRequestDTO;
+import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.UpdateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+import com.pohribnyi.insurance.service.ChangeFeedService;
+import com.pohribnyi.insurance.service.ClientService;
+import com.pohribnyi.insurance.service.InsurancePolicyService;
+import com.pohribnyi.insurance.util.exception.ResourceNotFoundException;
+
+@DisplayName("Change Feed Controller Integration Tests")
+class ChangeFeedControllerTest extends BaseIntegrationTest {
+
+	private static final String API_CHANGES_URL = "/api/changes";
+	private static final long TIMEOUT_MILLIS = 10_000;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ClientRepository clientRepository;
+
+	@Autowired
+	private InsurancePolicyRepository policyRepository;
+
+	@Autowired
+	private ClientService clientService;
+
+	@Autowired
+	private InsurancePolicyService policyService;
+
+	@Autowired
+	private ChangeFeedService changeFeedService;
+
+	@BeforeEach
+	void setUp() {
+		policyRepository.deleteAll();
+		clientRepository.deleteAll();
+		jdbcTemplate.update("DELETE FROM change_events");
+	}
+
+	@AfterEach
+	void tearDown() {
+		changeFeedService.closeSubscriptions();
+	}
+
+	@Test
+	@DisplayName("Test feed lists client and policy changes in commit order functionality")
+	void shouldListChangesInOrder() throws Exception {
+		// given
+		UUID clientId = createClient("feed@example.com");
+		UUID policyId = createPolicy("POL-FEED-001", clientId);
+		policyService.updatePolicy(policyId, new UpdateInsurancePolicyRequestDTO("Auto Premium",
+				LocalDate.now().plusDays(1), LocalDate.now().plusYears(2), List.of("Theft"), clientId));
+		clientService.deleteClient(clientId);
+
+		// when
+		JsonNode feed = poll(get(API_CHANGES_URL));
+
+		// then
+		assertThat(changes(feed)).containsExactly(
+				"CLIENT CREATED " + clientId,
+				"POLICY CREATED " + policyId,
+				"POLICY UPDATED " + policyId,
+				"CLIENT DELETED " + clientId,
+				"POLICY DELETED " + policyId);
+		assertThat(feed.get("next").asText()).isEqualTo(feed.get("events").get(4).get("cursor").asText());
+	}
+
+	@Test
+	@DisplayName("Test resume feed from cursor in batches functionality")
+	void shouldResumeFromCursor() throws Exception {
+		// given
+		UUID clientId = createClient("resume@example.com");
+		UUID first = createPolicy("POL-RESUME-001", clientId);
+		UUID second = createPolicy("POL-RESUME-002", clientId);
+
+		// when
+		JsonNode firstBatch = poll(get(API_CHANGES_URL).param("limit", "2"));
+		JsonNode secondBatch = poll(get(API_CHANGES_URL).param("after", firstBatch.get("next").asText()));
+		JsonNode thirdBatch = poll(get(API_CHANGES_URL).param("after", secondBatch.get("next").asText()));
+
+		// then
+		assertThat(changes(firstBatch)).containsExactly("CLIENT CREATED " + clientId, "POLICY CREATED " + first);
+		assertThat(changes(secondBatch)).containsExactly("POLICY CREATED " + second);
+		assertThat(changes(thirdBatch)).isEmpty();
+		assertThat(thirdBatch.get("next").asText()).isEqualTo(secondBatch.get("next").asText());
+	}
+
+	@Test
+	@DisplayName("Test rolled back write records no change event functionality")
+	void shouldNotRecordRolledBackChanges() throws Exception {
+		// given
+		UUID unknownClientId = UUID.randomUUID();
+
+		// when
+		try {
+			createPolicy("POL-ROLLBACK-001", unknownClientId);
+		} catch (ResourceNotFoundException expected) {
+		}
+
+		// then
+		assertThat(changes(poll(get(API_CHANGES_URL)))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Test long-poll answers as soon as change is committed functionality")
+	void shouldAnswerLongPollOnCommit() throws Exception {
+		// given
+		MvcResult pending = mockMvc.perform(get(API_CHANGES_URL).param("wait", "30"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		assertThatThrownBy(() -> pending.getAsyncResult(200)).isInstanceOf(IllegalStateException.class);
+
+		// when
+		UUID clientId = createClient("longpoll@example.com");
+
+		// then
+		String body = mockMvc.perform(asyncDispatch(pending))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		assertThat(changes(objectMapper.readTree(body))).containsExactly("CLIENT CREATED " + clientId);
+	}
+
+	@Test
+	@DisplayName("Test long-poll returns empty batch when wait elapses functionality")
+	void shouldReturnEmptyBatchWhenWaitElapses() throws Exception {
+		// given
+		createClient("quiet@example.com");
+		String cursor = poll(get(API_CHANGES_URL)).get("next").asText();
+
+		// when
+		JsonNode feed = poll(get(API_CHANGES_URL).param("after", cursor).param("wait", "1"));
+
+		// then
+		assertThat(changes(feed)).isEmpty();
+		assertThat(feed.get("next").asText()).isEqualTo(cursor);
+	}
+
+	@Test
+	@DisplayName("Test stream changes as server-sent events resuming from Last-Event-ID functionality")
+	void shouldStreamChangesFromLastEventId() throws Exception {
+		// given
+		UUID firstClient = createClient("stream1@example.com");
+		String cursor = poll(get(API_CHANGES_URL)).get("next").asText();
+		UUID secondClient = createClient("stream2@example.com");
+
+		// when
+		MvcResult stream = mockMvc.perform(get(API_CHANGES_URL + "/stream").header("Last-Event-ID", cursor))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		String events = awaitContent(stream, secondClient.toString());
+		UUID thirdClient = createClient("stream3@example.com");
+		events = awaitContent(stream, thirdClient.toString());
+
+		// then
+		assertThat(events).doesNotContain(firstClient.toString());
+		assertThat(events).contains("event:change");
+		assertThat(events.indexOf(secondClient.toString())).isLessThan(events.indexOf(thirdClient.toString()));
+	}
+
+	@Test
+	@DisplayName("Test reject malformed cursor functionality")
+	void shouldRejectMalformedCursor() throws Exception {
+		mockMvc.perform(get(API_CHANGES_URL).param("after", "not-a-cursor"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value("Invalid change feed cursor: not-a-cursor"));
+	}
+
+	private UUID createClient(String email) {
+		return clientService.createClient(new ClientRequestDTO("Feed", "Client", email)).id();
+	}
+
+	private UUID createPolicy(String policyNumber, UUID clientId) {
+		return policyService.createPolicy(new CreateInsurancePolicyRequestDTO(policyNumber, "Auto",
+				LocalDate.now().plusDays(1), LocalDate.now().plusYears(1), List.of("Collision"), clientId)).id();
+	}
+
+	private JsonNode poll(MockHttpServletRequestBuilder request) throws Exception {
+		MvcResult pending = mockMvc.perform(request)
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		String body = mockMvc.perform(asyncDispatch(pending))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(body);
+	}
+
+	private List<String> changes(JsonNode feed) {
+		return feed.get("events").valueStream()
+				.map(event -> event.get("entityType").asText() + " " + event.get("operation").asText() + " "
+						+ event.get("entityId").asText())
+				.toList();
+	}
+
+	private String awaitContent(MvcResult stream, String expected) throws Exception {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		String content = stream.getResponse().getContentAsString();
+		while (!content.contains(expected)) {
+			assertThat(System.currentTimeMillis()).as("stream delivered %s", expected).isLessThan(deadline);
+			Thread.sleep(20);
+			content = stream.getResponse().getContentAsString();
+		}
+		return content;
+	}
+
+}
@@ -1,16 +1,26 @@
 package com.pohribnyi.insurance.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,12 +30,20 @@ import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.SqlStatementCounter;
 import com.pohribnyi.insurance.dto.request.ClientRequestDTO;
+import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
 import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
 
 @DisplayName("Client Controller Integration Tests")
 class ClientControllerTest extends BaseIntegrationTest {
@@ -41,6 +59,12 @@ class ClientControllerTest extends BaseIntegrationTest {
     @Autowired
     private ClientRepository clientRepository;
     
+    @Autowired
+    private InsurancePolicyRepository policyRepository;
+    
+    @Autowired
+    private SqlStatementCounter statementCounter;
+    
     @BeforeEach
     void setUp() {
         clientRepository.deleteAll();
@@ -222,6 +246,36 @@ class ClientControllerTest extends BaseIntegrationTest {
 			.andExpect(status().isNotFound());
 	}
 	
+	@Test
+	@DisplayName("Test delete client with policies in one statement functionality")
+	void shouldDeleteClientWithPoliciesInOneStatement() throws Exception {
+		// given
+		Client client = clientRepository.save(Client.builder()
+				.firstName("Corporate")
+				.lastName("Client")
+				.email("corporate@example.com")
+				.build());
+		for (int i = 0; i < 5; i++) {
+			policyRepository.save(InsurancePolicy.builder()
+					.policyNumber("POL-CASCADE-00" + i)
+					.policyType("Auto")
+					.startDate(LocalDate.now().plusDays(1))
+					.endDate(LocalDate.now().plusYears(1))
+					.coveredRisks(Set.of("Collision", "Theft"))
+					.client(client)
+					.build());
+		}
+
+		// when
+		statementCounter.reset();
+		mockMvc.perform(delete(API_CLIENT_URL + "/" + client.getId()))
+			.andExpect(status().isNoContent());
+
+		// then
+		assertThat(statementCounter.count()).isEqualTo(1);
+		assertThat(policyRepository.count()).isZero();
+	}
+	
 	@Test
     @DisplayName("Test 404 code when delete not-existed client functionality")
     void shouldReturn404WhenDeletingNotExistedClient() throws Exception {
@@ -277,4 +331,96 @@ class ClientControllerTest extends BaseIntegrationTest {
 						containsInAnyOrder("test@example.com", "test1@example.com", "test2@example.com")));
 	}
 	
+	@Test
+	@DisplayName("Test import clients skipping duplicates and invalid rows functionality")
+	void shouldImportClientsSkippingDuplicates() throws Exception {
+		// given
+		Client existing = clientRepository.save(Client.builder()
+				.firstName("Existing")
+				.lastName("Client")
+				.email("existing@example.com")
+				.build());
+		List<ClientRequestDTO> requests = List.of(
+				new ClientRequestDTO("New", "Client", "new@example.com"),
+				new ClientRequestDTO("Repeated", "Client", "new@example.com"),
+				new ClientRequestDTO("Existing", "Again", "existing@example.com"),
+				new ClientRequestDTO("Invalid", "Client", "not-an-email"));
+
+		// when
+		String response = performImport(objectMapper.writeValueAsString(requests))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.createdCount").value(1))
+				.andExpect(jsonPath("$.duplicateCount").value(2))
+				.andExpect(jsonPath("$.failureCount").value(1))
+				.andReturn().getResponse().getContentAsString();
+
+		// then
+		JsonNode createdIds = objectMapper.readTree(response).get("createdIds");
+		UUID createdId = UUID.fromString(createdIds.get("new@example.com").asText());
+		assertThat(createdIds.size()).isEqualTo(1);
+		assertThat(clientRepository.findById(createdId).orElseThrow().getFirstName()).isEqualTo("New");
+		assertThat(clientRepository.findByEmail("existing@example.com").orElseThrow().getId())
+				.isEqualTo(existing.getId());
+	}
+
+	@Test
+	@DisplayName("Test import clients with one insert per chunk functionality")
+	void shouldImportClientsWithOneStatementPerChunk() throws Exception {
+		// given
+		List<ClientRequestDTO> requests = new ArrayList<>(IntStream.range(0, 1001)
+				.mapToObj(i -> new ClientRequestDTO("Bulk", "Client" + i, "bulk" + i + "@example.com"))
+				.toList());
+		requests.add(new ClientRequestDTO("Bulk", "Repeated", "bulk0@example.com"));
+
+		// when
+		statementCounter.reset();
+		performImport(objectMapper.writeValueAsString(requests))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.createdCount").value(1001))
+				.andExpect(jsonPath("$.duplicateCount").value(1));
+
+		// then
+		assertThat(statementCounter.count()).isEqualTo(2);
+		assertThat(clientRepository.count()).isEqualTo(1001);
+	}
+
+	@Test
+	@DisplayName("Test import counts elements that are not client objects as failures functionality")
+	void shouldCountNonClientElementsAsFailures() throws Exception {
+		// given
+		String json = "[{\"firstName\": \"First\", \"lastName\": \"Client\", \"email\": \"first@example.com\"}, "
+				+ "null, 5, [\"nested\"], {\"firstName\": [\"First\"], \"email\": \"mismatch@example.com\"}, "
+				+ "{\"firstName\": \"Last\", \"lastName\": \"Client\", \"email\": \"last@example.com\"}]";
+
+		// when
+		ResultActions result = performImport(json);
+
+		// then
+		result.andExpect(status().isOk())
+				.andExpect(jsonPath("$.createdCount").value(2))
+				.andExpect(jsonPath("$.failureCount").value(4));
+		assertThat(clientRepository.findByEmail("last@example.com")).isPresent();
+	}
+
+	@Test
+	@DisplayName("Test reject malformed client import file functionality")
+	void shouldRejectMalformedImportFile() throws Exception {
+		performImport("{\"email\": \"a@example.com\"}")
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value("Client import file must contain a JSON array"));
+	}
+
+	private ResultActions performImport(String json) throws Exception {
+		MockMultipartFile file = new MockMultipartFile(
+				"file", 
+				"clients.json", 
+				MediaType.APPLICATION_JSON_VALUE,
+				json.getBytes(StandardCharsets.UTF_8));
+
+		MvcResult asyncResult = mockMvc.perform(multipart(API_CLIENT_URL + "/upload").file(file))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		return mockMvc.perform(asyncDispatch(asyncResult));
+	}
+
 }
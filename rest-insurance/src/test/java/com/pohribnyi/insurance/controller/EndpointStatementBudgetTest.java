@@ -0,0 +1,281 @@
+package com.pohribnyi.insurance.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.SqlStatementCounter;
+import com.pohribnyi.insurance.dto.request.ClientRequestDTO;
+import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
+import com.pohribnyi.insurance.dto.request.UpdateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+import com.pohribnyi.insurance.service.ReportProperties;
+
+/**
+ * Declares the SQL statement budget of every endpoint. The fixture gives each
+ * client several policies with several risks, so an N+1 query or an accidental
+ * collection initialization pushes a request over its budget. Writes include
+ * their change event insert; deletes record it in the delete statement itself.
+ */
+@DisplayName("Endpoint Statement Budget Tests")
+class EndpointStatementBudgetTest extends BaseIntegrationTest {
+
+	private static final String API_CLIENT_URL = "/api/client";
+	private static final String API_POLICY_URL = "/api/insurance_policy";
+	private static final int POLICIES_PER_CLIENT = 5;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ClientRepository clientRepository;
+
+	@Autowired
+	private InsurancePolicyRepository policyRepository;
+
+	@Autowired
+	private ReportProperties reportProperties;
+
+	@Autowired
+	private SqlStatementCounter statementCounter;
+
+	@Autowired
+	private TaskScheduler taskScheduler;
+
+	private Client client;
+	private List<InsurancePolicy> policies;
+
+	@BeforeEach
+	void setUp() {
+		objectMapper.registerModule(new JavaTimeModule());
+		policyRepository.deleteAll();
+		clientRepository.deleteAll();
+
+		client = clientRepository.save(Client.builder()
+				.firstName("Budget")
+				.lastName("Client")
+				.email("budget@example.com")
+				.build());
+
+		policies = new ArrayList<>();
+		for (int i = 0; i < POLICIES_PER_CLIENT; i++) {
+			policies.add(policyRepository.save(InsurancePolicy.builder()
+					.policyNumber("POL-BUDGET-00" + i)
+					.policyType("Auto")
+					.startDate(LocalDate.now().plusDays(1))
+					.endDate(LocalDate.now().plusYears(1))
+					.coveredRisks(Set.of("Collision", "Theft", "Glass"))
+					.client(client)
+					.build()));
+		}
+	}
+
+	@Test
+	@DisplayName("Test GET /api/client statement budget functionality")
+	void shouldListClientsWithinBudget() throws Exception {
+		performWithinBudget(1, get(API_CLIENT_URL));
+	}
+
+	@Test
+	@DisplayName("Test POST /api/client statement budget functionality")
+	void shouldCreateClientWithinBudget() throws Exception {
+		performWithinBudget(3, json(post(API_CLIENT_URL), new ClientRequestDTO("New", "Client", "new@example.com")));
+	}
+
+	@Test
+	@DisplayName("Test PUT /api/client/{id} statement budget functionality")
+	void shouldUpdateClientWithinBudget() throws Exception {
+		performWithinBudget(4, json(put(API_CLIENT_URL + "/" + client.getId()),
+				new ClientRequestDTO("Budget", "Updated", "budget.updated@example.com")));
+	}
+
+	@Test
+	@DisplayName("Test DELETE /api/client/{id} statement budget functionality")
+	void shouldDeleteClientWithinBudget() throws Exception {
+		performWithinBudget(1, delete(API_CLIENT_URL + "/" + client.getId()));
+	}
+
+	@Test
+	@DisplayName("Test POST /api/insurance_policy statement budget functionality")
+	void shouldCreatePolicyWithinBudget() throws Exception {
+		performWithinBudget(4, json(post(API_POLICY_URL), new CreateInsurancePolicyRequestDTO(
+				"POL-BUDGET-NEW", 
+				"Auto", 
+				LocalDate.now().plusDays(1), 
+				LocalDate.now().plusYears(1),
+				List.of("Collision", "Theft"), 
+				client.getId())));
+	}
+
+	@Test
+	@DisplayName("Test GET /api/insurance_policy/{id} statement budget functionality")
+	void shouldGetPolicyWithinBudget() throws Exception {
+		performWithinBudget(1, get(API_POLICY_URL + "/" + policies.get(0).getId()));
+	}
+
+	@Test
+	@DisplayName("Test PUT /api/insurance_policy/{id} statement budget functionality")
+	void shouldUpdatePolicyWithinBudget() throws Exception {
+		performWithinBudget(5, json(put(API_POLICY_URL + "/" + policies.get(0).getId()),
+				new UpdateInsurancePolicyRequestDTO(
+						"Auto Premium", 
+						LocalDate.now().plusDays(2), 
+						LocalDate.now().plusYears(2),
+						List.of("Collision", "Fire"), 
+						client.getId())));
+	}
+
+	@Test
+	@DisplayName("Test DELETE /api/insurance_policy/{id} statement budget functionality")
+	void shouldDeletePolicyWithinBudget() throws Exception {
+		performWithinBudget(1, delete(API_POLICY_URL + "/" + policies.get(0).getId()));
+	}
+
+	@Test
+	@DisplayName("Test POST /api/insurance_policy/_list statement budget functionality")
+	void shouldListPoliciesWithinBudget() throws Exception {
+		performWithinBudget(2, json(post(API_POLICY_URL + "/_list"),
+				new PolicyPageableRequestDTO(client.getId(), null, null, 0, 2)));
+	}
+
+	@Test
+	@DisplayName("Test POST /api/insurance_policy/_report statement budget functionality")
+	void shouldGenerateReportWithinBudget() throws Exception {
+		// Snapshot export, then snapshot import and range query per partition
+		performWithinBudget(1 + 2 * reportProperties.partitions(), json(post(API_POLICY_URL + "/_report"),
+				new PolicyPageableRequestDTO(null, null, null, null, null)));
+	}
+
+	@Test
+	@DisplayName("Test POST /api/insurance_policy/_export statement budget functionality")
+	void shouldExportPoliciesWithinBudget() throws Exception {
+		performWithinBudget(2, json(post(API_POLICY_URL + "/_export"),
+				new PolicyPageableRequestDTO(null, null, null, null, null)));
+	}
+
+	@Test
+	@DisplayName("Test GET /api/insurance_policy/_statistics statement budget functionality")
+	void shouldGetStatisticsWithinBudget() throws Exception {
+		performWithinBudget(2, get(API_POLICY_URL + "/_statistics"));
+		performWithinBudget(1, get(API_POLICY_URL + "/_statistics/client/" + client.getId()));
+	}
+
+	@Test
+	@DisplayName("Test POST /api/insurance_policy/upload statement budget functionality")
+	void shouldUploadPoliciesWithinBudget() throws Exception {
+		String json = objectMapper.writeValueAsString(List.of(
+				new CreateInsurancePolicyRequestDTO("POL-BUDGET-UP1", "Auto", LocalDate.now().plusDays(1),
+						LocalDate.now().plusYears(1), List.of("Collision"), client.getId()),
+				new CreateInsurancePolicyRequestDTO("POL-BUDGET-UP2", "Auto", LocalDate.now().plusDays(1),
+						LocalDate.now().plusYears(1), List.of("Theft"), client.getId())));
+		MockMultipartFile file = new MockMultipartFile("file", "policies.json", MediaType.APPLICATION_JSON_VALUE,
+				json.getBytes(StandardCharsets.UTF_8));
+
+		performWithinBudget(1, multipart(API_POLICY_URL + "/upload").file(file));
+	}
+
+	@Test
+	@DisplayName("Test POST /api/client/upload statement budget functionality")
+	void shouldUploadClientsWithinBudget() throws Exception {
+		String json = objectMapper.writeValueAsString(List.of(
+				new ClientRequestDTO("Budget", "One", "budget-upload1@example.com"),
+				new ClientRequestDTO("Budget", "Two", "budget-upload2@example.com")));
+		MockMultipartFile file = new MockMultipartFile("file", "clients.json", MediaType.APPLICATION_JSON_VALUE,
+				json.getBytes(StandardCharsets.UTF_8));
+
+		performWithinBudget(1, multipart(API_CLIENT_URL + "/upload").file(file));
+	}
+
+	@Test
+	@DisplayName("Test entity identity without initializing lazy associations functionality")
+	void shouldNotTouchLazyAssociationsInEntityIdentity() {
+		// given
+		InsurancePolicy detached = policyRepository.findById(policies.get(0).getId()).orElseThrow();
+		InsurancePolicy sameRow = policyRepository.findById(policies.get(0).getId()).orElseThrow();
+		Client detachedClient = detached.getClient();
+
+		// when
+		Throwable thrown = catchThrowable(() -> {
+			detached.toString();
+			detached.hashCode();
+			detachedClient.hashCode();
+			detachedClient.equals(client);
+		});
+
+		// then
+		assertThat(thrown).isNull();
+		assertThat(detached).isEqualTo(sameRow);
+		assertThat(detachedClient).isEqualTo(client);
+	}
+
+	@Test
+	@DisplayName("Test statements of scheduled jobs left out of request budgets functionality")
+	void shouldNotCountStatementsOfScheduledJobs() throws Exception {
+		// given
+		statementCounter.reset();
+
+		// when
+		taskScheduler.schedule(() -> clientRepository.count(), Instant.now()).get();
+
+		// then
+		assertThat(statementCounter.count()).isZero();
+	}
+
+	private MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder builder, Object body) throws Exception {
+		return builder.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(body));
+	}
+
+	private void performWithinBudget(int budget, RequestBuilder request) throws Exception {
+		statementCounter.reset();
+
+		MvcResult result = mockMvc.perform(request).andReturn();
+		if (result.getRequest().isAsyncStarted()) {
+			result = mockMvc.perform(asyncDispatch(result)).andReturn();
+		}
+
+		assertThat(result.getResponse().getStatus()).isLessThan(400);
+		assertThat(statementCounter.count())
+				.as("statement budget exceeded, executed:%n%s", statementCounter.statements().stream()
+						.map(Object::toString)
+						.collect(Collectors.joining("\n")))
+				.isLessThanOrEqualTo(budget);
+	}
+
+}
@@ -1,9 +1,11 @@
 package com.pohribnyi.insurance.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
@@ -11,13 +13,18 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -30,20 +37,30 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.SqlStatementCounter;
+import com.pohribnyi.insurance.dto.request.BulkDeletePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.BulkUpdatePolicyRequestDTO;
 import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
 import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
 import com.pohribnyi.insurance.dto.request.UpdateInsurancePolicyRequestDTO;
 import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
 import com.pohribnyi.insurance.repository.ClientRepository;
 import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+import com.pohribnyi.insurance.repository.UploadSessionRepository;
+import com.pohribnyi.insurance.service.PolicyStatisticsService;
 
 @DisplayName("Insurance Policy Controller Integration Tests")
 class InsurancePolicyControllerTest extends BaseIntegrationTest {
@@ -52,6 +69,11 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 	private static final String API_LIST_POLICY_URL = API_POLICY_URL + "/_list";
 	private static final String API_REPORT_POLICY_URL = API_POLICY_URL + "/_report";
 	private static final String API_UPLOAD_POLICY_URL = API_POLICY_URL+ "/upload";
+	private static final String API_UPLOAD_SESSION_URL = API_UPLOAD_POLICY_URL + "/sessions";
+	private static final String API_EXPORT_POLICY_URL = API_POLICY_URL + "/_export";
+	private static final String API_STATISTICS_POLICY_URL = API_POLICY_URL + "/_statistics";
+	private static final String API_BULK_UPDATE_POLICY_URL = API_POLICY_URL + "/_bulkUpdate";
+	private static final String API_BULK_DELETE_POLICY_URL = API_POLICY_URL + "/_bulkDelete";
 
 	@Autowired
 	private MockMvc mockMvc;
@@ -65,6 +87,15 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 	@Autowired
 	private InsurancePolicyRepository policyRepository;
 
+	@Autowired
+	private PolicyStatisticsService statisticsService;
+
+	@Autowired
+	private UploadSessionRepository uploadSessionRepository;
+
+	@Autowired
+	private SqlStatementCounter statementCounter;
+
 	private UUID testClientId;
 
 	@BeforeEach
@@ -188,6 +219,34 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 				.andExpect(jsonPath("$.message").value(containsString("not found")));
 	}
 
+	@Test
+	@DisplayName("Test create policy with repeated covered risk stores it once functionality")
+	void shouldStoreRepeatedCoveredRiskOnce() throws Exception {
+		// given
+		CreateInsurancePolicyRequestDTO request = new CreateInsurancePolicyRequestDTO(
+				"POL-RISKS-001",
+				"Home",
+				LocalDate.now().plusDays(1),
+				LocalDate.now().plusYears(1),
+				List.of("Flood", "Fire", "Flood"),
+				testClientId);
+
+		// when
+		String response = mockMvc
+				.perform(post(API_POLICY_URL)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.coveredRisks", hasSize(2)))
+				.andReturn().getResponse().getContentAsString();
+		UUID policyId = UUID.fromString(objectMapper.readTree(response).get("id").asText());
+
+		// then
+		mockMvc.perform(get(API_POLICY_URL + "/" + policyId))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.coveredRisks", contains("Fire", "Flood")));
+	}
+
 	@Test
 	@DisplayName("Test get policy by ID with client functionality")
 	void shouldGetPolicyByIdWithClientDetails() throws Exception {
@@ -270,6 +329,122 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 				.andExpect(jsonPath("$.coveredRisks", containsInAnyOrder("Death", "Disability")));
 	}
 
+	@Test
+	@DisplayName("Test create policy with minimal SQL round trips functionality")
+	void shouldCreatePolicyWithMinimalStatements() throws Exception {
+		// given
+		CreateInsurancePolicyRequestDTO request = new CreateInsurancePolicyRequestDTO(
+				"POL-RT-001", 
+				"Auto",
+				LocalDate.now().plusDays(1), 
+				LocalDate.now().plusYears(1), 
+				List.of("Collision", "Theft", "Glass"), 
+				testClientId);
+
+		// when
+		statementCounter.reset();
+		mockMvc.perform(post(API_POLICY_URL)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isCreated());
+
+		// then: policy insert, batched risk inserts, change event insert, client select for the response
+		assertThat(statementCounter.count()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("Test update only changed columns and risks functionality")
+	void shouldUpdatePolicyWithMinimalStatements() throws Exception {
+		// given
+		CreateInsurancePolicyRequestDTO createRequest = new CreateInsurancePolicyRequestDTO(
+				"POL-RT-002", 
+				"Auto",
+				LocalDate.now().plusDays(1), 
+				LocalDate.now().plusYears(1), 
+				List.of("Collision", "Theft"), 
+				testClientId);
+		
+		String response = mockMvc
+				.perform(post(API_POLICY_URL)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(createRequest)))
+				.andReturn().getResponse().getContentAsString();
+		
+		UUID policyId = UUID.fromString(objectMapper.readTree(response).get("id").asText());
+
+		UpdateInsurancePolicyRequestDTO unchanged = new UpdateInsurancePolicyRequestDTO(
+				"Auto",
+				createRequest.startDate(), 
+				createRequest.endDate(),
+				List.of("Theft", "Collision"),
+				testClientId);
+
+		UpdateInsurancePolicyRequestDTO changed = new UpdateInsurancePolicyRequestDTO(
+				"Auto Premium",
+				createRequest.startDate(), 
+				createRequest.endDate(),
+				List.of("Collision", "Glass"),
+				testClientId);
+
+		// when
+		statementCounter.reset();
+		mockMvc.perform(put(API_POLICY_URL + "/" + policyId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(unchanged)))
+				.andExpect(status().isOk());
+		int unchangedCount = statementCounter.count();
+
+		statementCounter.reset();
+		mockMvc.perform(put(API_POLICY_URL + "/" + policyId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(changed)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.policyType").value("Auto Premium"))
+				.andExpect(jsonPath("$.coveredRisks", containsInAnyOrder("Collision", "Glass")));
+		int changedCount = statementCounter.count();
+
+		// then: one fetch; the change adds one column update, one risk delete, one risk insert
+		// and its change event
+		assertThat(unchangedCount).isEqualTo(1);
+		assertThat(changedCount).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("Test 404 code when update policy with not-existed client functionality")
+	void shouldReturn404WhenUpdatingPolicyWithNotExistedClient() throws Exception {
+		// given
+		CreateInsurancePolicyRequestDTO createRequest = new CreateInsurancePolicyRequestDTO(
+				"POL-RT-003", 
+				"Auto",
+				LocalDate.now().plusDays(1), 
+				LocalDate.now().plusYears(1), 
+				List.of("Collision"), 
+				testClientId);
+		
+		String response = mockMvc
+				.perform(post(API_POLICY_URL)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(createRequest)))
+				.andReturn().getResponse().getContentAsString();
+		
+		UUID policyId = UUID.fromString(objectMapper.readTree(response).get("id").asText());
+
+		// when
+		UpdateInsurancePolicyRequestDTO request = new UpdateInsurancePolicyRequestDTO(
+				"Auto",
+				LocalDate.now().plusDays(1), 
+				LocalDate.now().plusYears(1), 
+				List.of("Collision"), 
+				UUID.randomUUID());
+
+		// then
+		mockMvc.perform(put(API_POLICY_URL + "/" + policyId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isNotFound())
+				.andExpect(jsonPath("$.message").value(containsString("Client not found")));
+	}
+
 	@Test
 	@DisplayName("Test 404 code when update not-existed policy functionality")
 	void shouldReturn404WhenUpdatingNonExistentPolicy() throws Exception {
@@ -332,6 +507,35 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 		mockMvc.perform(get(API_POLICY_URL + "/" + policyId)).andExpect(status().isNotFound());
 	}
 	
+	@Test
+	@DisplayName("Test delete policy in one statement functionality")
+	void shouldDeletePolicyInOneStatement() throws Exception {
+		// given
+		CreateInsurancePolicyRequestDTO request = new CreateInsurancePolicyRequestDTO(
+				"POL-DEL-002", 
+				"Property",
+				LocalDate.now().plusDays(1), 
+				LocalDate.now().plusYears(1), 
+				List.of("Fire", "Flood"), 
+				testClientId);
+		
+		String response = mockMvc
+				.perform(post(API_POLICY_URL)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(request)))
+				.andReturn().getResponse().getContentAsString();
+		
+		UUID policyId = UUID.fromString(objectMapper.readTree(response).get("id").asText());
+
+		// when
+		statementCounter.reset();
+		mockMvc.perform(delete(API_POLICY_URL + "/" + policyId)).andExpect(status().isNoContent());
+
+		// then
+		assertThat(statementCounter.count()).isEqualTo(1);
+		assertThat(policyRepository.existsById(policyId)).isFalse();
+	}
+	
 	@Test
 	@DisplayName("Test 404 code when delete not-existed policy functionality")
 	void shouldReturn404WhenDeletingNotExistedPolicy() throws Exception {
@@ -474,9 +678,13 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 		PolicyPageableRequestDTO request = new PolicyPageableRequestDTO(null, null, null, 0, 5);
 
 		// then
-		byte [] reportContent = mockMvc.perform(post(API_REPORT_POLICY_URL)
+		MvcResult asyncResult = mockMvc.perform(post(API_REPORT_POLICY_URL)
 				.contentType(MediaType.APPLICATION_JSON)
 				.content(objectMapper.writeValueAsString(request)))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		byte [] reportContent = mockMvc.perform(asyncDispatch(asyncResult))
 				.andExpect(status().isOk())
 				.andExpect(header().string("Content-Type", "text/csv"))
 				.andExpect(header().exists("Content-Disposition"))
@@ -495,6 +703,161 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 		assertThat(csvString).contains("testclient@example.com");
 	}
 
+	@Test
+	@DisplayName("Test generate CSV report from parallel id ranges in id order functionality")
+	void shouldGenerateCsvReportInIdOrder() throws Exception {
+		// given
+		List<String> autoIds = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			UUID id = savePolicy("POL-RANGE-" + i, i % 4 == 0 ? "Life" : "Auto");
+			if (i % 4 != 0) {
+				autoIds.add(id.toString());
+			}
+		}
+		Collections.sort(autoIds);
+
+		// when
+		MvcResult asyncResult = mockMvc.perform(post(API_REPORT_POLICY_URL)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new PolicyPageableRequestDTO(null, "Auto", null, null, null))))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		String csvString = mockMvc.perform(asyncDispatch(asyncResult))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+		// then
+		List<String> lines = csvString.lines().toList();
+		assertThat(lines.get(0)).startsWith("\"ID\",\"Policy Number\"");
+		assertThat(lines.subList(1, lines.size()))
+				.extracting(line -> line.substring(1, line.indexOf('"', 1)))
+				.containsExactlyElementsOf(autoIds);
+	}
+
+	@Test
+	@DisplayName("Test export filtered policies as NDJSON functionality")
+	void shouldExportPoliciesAsNdjson() throws Exception {
+		// given
+		Client client = clientRepository.findById(testClientId).orElseThrow();
+		Client anotherClient = clientRepository.save(Client.builder()
+				.firstName("Another")
+				.lastName("Client")
+				.email("another@example.com")
+				.build());
+		for (int i = 0; i < 3; i++) {
+			policyRepository.save(InsurancePolicy.builder()
+					.policyNumber("POL-EXP-00" + i)
+					.policyType("Auto")
+					.startDate(LocalDate.now().plusDays(1))
+					.endDate(LocalDate.now().plusYears(1))
+					.coveredRisks(Set.of("Theft", "Collision"))
+					.client(client)
+					.build());
+		}
+		policyRepository.save(InsurancePolicy.builder()
+				.policyNumber("POL-EXP-OTHER")
+				.policyType("Auto")
+				.startDate(LocalDate.now().plusDays(1))
+				.endDate(LocalDate.now().plusYears(1))
+				.coveredRisks(Set.of("Glass"))
+				.client(anotherClient)
+				.build());
+
+		// when
+		PolicyPageableRequestDTO request = new PolicyPageableRequestDTO(testClientId, null, null, 0, 1);
+
+		statementCounter.reset();
+		MvcResult asyncResult = mockMvc.perform(post(API_EXPORT_POLICY_URL)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		String ndjson = mockMvc.perform(asyncDispatch(asyncResult))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+				.andReturn().getResponse().getContentAsString();
+
+		// then: one cursor query for policies with clients, one batched risk query
+		List<String> lines = ndjson.lines().toList();
+		assertThat(lines).hasSize(3);
+		assertThat(statementCounter.count()).isEqualTo(2);
+		for (String line : lines) {
+			JsonNode policy = objectMapper.readTree(line);
+			assertThat(policy.get("policyNumber").asText()).startsWith("POL-EXP-00");
+			assertThat(policy.get("client").get("email").asText()).isEqualTo("testclient@example.com");
+			assertThat(policy.get("coveredRisks")).hasSize(2);
+		}
+	}
+
+	@Test
+	@DisplayName("Test policy statistics from refreshed summaries functionality")
+	void shouldReturnPolicyStatistics() throws Exception {
+		// given
+		Client client = clientRepository.findById(testClientId).orElseThrow();
+		policyRepository.save(InsurancePolicy.builder()
+				.policyNumber("POL-STAT-001")
+				.policyType("Auto")
+				.startDate(LocalDate.now().minusYears(2))
+				.endDate(LocalDate.now().minusYears(1))
+				.coveredRisks(new HashSet<>(Set.of("Collision")))
+				.client(client)
+				.build());
+		policyRepository.save(InsurancePolicy.builder()
+				.policyNumber("POL-STAT-002")
+				.policyType("Auto")
+				.startDate(LocalDate.now().minusDays(1))
+				.endDate(LocalDate.now().plusYears(1))
+				.coveredRisks(Set.of("Theft"))
+				.client(client)
+				.build());
+		policyRepository.save(InsurancePolicy.builder()
+				.policyNumber("POL-STAT-003")
+				.policyType("Health")
+				.startDate(LocalDate.now().minusDays(1))
+				.endDate(LocalDate.now().plusYears(1))
+				.coveredRisks(Set.of("Medical"))
+				.client(client)
+				.build());
+
+		// when
+		statisticsService.refresh();
+
+		// then
+		mockMvc.perform(get(API_STATISTICS_POLICY_URL))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalCount").value(3))
+				.andExpect(jsonPath("$.activeCount").value(2))
+				.andExpect(jsonPath("$.expiredCount").value(1))
+				.andExpect(jsonPath("$.byType", hasSize(2)))
+				.andExpect(jsonPath("$.byType[0].policyType").value("Auto"))
+				.andExpect(jsonPath("$.byType[0].totalCount").value(2))
+				.andExpect(jsonPath("$.byType[0].expiredCount").value(1))
+				.andExpect(jsonPath("$.refreshedAt").exists());
+
+		mockMvc.perform(get(API_STATISTICS_POLICY_URL + "/client/" + testClientId))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalCount").value(3))
+				.andExpect(jsonPath("$.activeCount").value(2))
+				.andExpect(jsonPath("$.expiredCount").value(1));
+	}
+
+	@Test
+	@DisplayName("Test zero statistics for client without policies functionality")
+	void shouldReturnEmptyStatisticsForClientWithoutPolicies() throws Exception {
+		// given
+		UUID notExistedId = UUID.randomUUID();
+
+		// when
+		statisticsService.refresh();
+
+		// then
+		mockMvc.perform(get(API_STATISTICS_POLICY_URL + "/client/" + notExistedId))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.clientId").value(notExistedId.toString()))
+				.andExpect(jsonPath("$.totalCount").value(0));
+	}
+
 	@ParameterizedTest(name = "File: {0} -> Expected Success: {1}, Fail: {2}")
 	@CsvSource({ "/upload/expected/valid.json, 2, 0", 
 		"/upload/expected/mixed.json,  1, 2", 
@@ -510,12 +873,416 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 				MediaType.APPLICATION_JSON_VALUE,
 				jsonContent.getBytes(StandardCharsets.UTF_8));
 
-		mockMvc.perform(multipart(API_UPLOAD_POLICY_URL).file(file))
+		MvcResult asyncResult = mockMvc.perform(multipart(API_UPLOAD_POLICY_URL).file(file))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(asyncResult))
 				.andExpect(status().isOk())
 				.andExpect(jsonPath("$.successCount").value(expectedSuccess))
 				.andExpect(jsonPath("$.failureCount").value(expectedFailure));
 	}
 
+	@Test
+	@DisplayName("Test upload skips taken policy numbers and stores covered risks functionality")
+	void shouldUploadPoliciesWithCoveredRisksSkippingTakenNumbers() throws Exception {
+		// given
+		savePolicy("POL-UP-TAKEN", "Auto");
+		LocalDate start = LocalDate.now().plusDays(1);
+		List<CreateInsurancePolicyRequestDTO> requests = List.of(
+				new CreateInsurancePolicyRequestDTO("POL-UP-TAKEN", "Auto", start, start.plusYears(1),
+						List.of("Theft"), testClientId),
+				new CreateInsurancePolicyRequestDTO("POL-UP-NEW", "Home", start, start.plusYears(1),
+						List.of("Flood", "Fire"), testClientId),
+				new CreateInsurancePolicyRequestDTO("POL-UP-BAD-DATES", "Home", start.plusDays(5), start,
+						List.of("Fire"), testClientId));
+		MockMultipartFile file = new MockMultipartFile("file", "policies.json", MediaType.APPLICATION_JSON_VALUE,
+				objectMapper.writeValueAsBytes(requests));
+
+		// when
+		MvcResult asyncResult = mockMvc.perform(multipart(API_UPLOAD_POLICY_URL).file(file))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		// then
+		mockMvc.perform(asyncDispatch(asyncResult))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.successCount").value(1))
+				.andExpect(jsonPath("$.failureCount").value(2));
+		UUID createdId = policyRepository.findAll().stream()
+				.filter(policy -> policy.getPolicyNumber().equals("POL-UP-NEW"))
+				.findFirst().orElseThrow().getId();
+		assertThat(policyRepository.findWithDetailsById(createdId).orElseThrow().getCoveredRisks())
+				.containsExactly("Fire", "Flood");
+		assertThat(policyRepository.existsByPolicyNumber("POL-UP-BAD-DATES")).isFalse();
+	}
+
+	@Test
+	@DisplayName("Test upload counts elements that are not policy objects as failures functionality")
+	void shouldCountNonPolicyElementsAsFailures() throws Exception {
+		// given
+		LocalDate start = LocalDate.now().plusDays(1);
+		String first = objectMapper.writeValueAsString(new CreateInsurancePolicyRequestDTO("POL-UP-FIRST", "Home",
+				start, start.plusYears(1), List.of("Fire"), testClientId));
+		String last = objectMapper.writeValueAsString(new CreateInsurancePolicyRequestDTO("POL-UP-LAST", "Home",
+				start, start.plusYears(1), List.of("Fire"), testClientId));
+		String json = "[" + first + ", null, 5, [" + first + "], \"POL-UP-TEXT\", "
+				+ "{\"policyNumber\": \"POL-UP-BAD-DATE\", \"startDate\": \"soon\"}, " + last + "]";
+		MockMultipartFile file = new MockMultipartFile("file", "policies.json", MediaType.APPLICATION_JSON_VALUE,
+				json.getBytes(StandardCharsets.UTF_8));
+
+		// when
+		MvcResult asyncResult = mockMvc.perform(multipart(API_UPLOAD_POLICY_URL).file(file))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		// then
+		mockMvc.perform(asyncDispatch(asyncResult))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.successCount").value(2))
+				.andExpect(jsonPath("$.failureCount").value(5));
+		assertThat(policyRepository.existsByPolicyNumber("POL-UP-FIRST")).isTrue();
+		assertThat(policyRepository.existsByPolicyNumber("POL-UP-LAST")).isTrue();
+	}
+
+	@Test
+	@DisplayName("Test upload stores repeated policy number when its first request fails functionality")
+	void shouldStoreRepeatedPolicyNumberWhenFirstRequestFails() throws Exception {
+		// given
+		LocalDate start = LocalDate.now().plusDays(1);
+		List<CreateInsurancePolicyRequestDTO> requests = List.of(
+				new CreateInsurancePolicyRequestDTO("POL-UP-RETRIED", "Home", start, start.plusYears(1),
+						List.of("Fire"), UUID.randomUUID()),
+				new CreateInsurancePolicyRequestDTO("POL-UP-RETRIED", "Home", start, start.plusYears(1),
+						List.of("Flood"), testClientId),
+				new CreateInsurancePolicyRequestDTO("POL-UP-RETRIED", "Home", start, start.plusYears(1),
+						List.of("Theft"), testClientId));
+		MockMultipartFile file = new MockMultipartFile("file", "policies.json", MediaType.APPLICATION_JSON_VALUE,
+				objectMapper.writeValueAsBytes(requests));
+
+		// when
+		MvcResult asyncResult = mockMvc.perform(multipart(API_UPLOAD_POLICY_URL).file(file))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		// then
+		mockMvc.perform(asyncDispatch(asyncResult))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.successCount").value(1))
+				.andExpect(jsonPath("$.failureCount").value(2));
+		UUID createdId = policyRepository.findAll().stream()
+				.filter(policy -> policy.getPolicyNumber().equals("POL-UP-RETRIED"))
+				.findFirst().orElseThrow().getId();
+		assertThat(policyRepository.findWithDetailsById(createdId).orElseThrow().getCoveredRisks())
+				.containsExactly("Flood");
+	}
+
+	@Test
+	@DisplayName("Test upload stores repeated covered risk once functionality")
+	void shouldStoreRepeatedCoveredRiskOnceOnUpload() throws Exception {
+		// given
+		LocalDate start = LocalDate.now().plusDays(1);
+		List<CreateInsurancePolicyRequestDTO> requests = List.of(
+				new CreateInsurancePolicyRequestDTO("POL-UP-REPEATED", "Home", start, start.plusYears(1),
+						List.of("Fire", "Flood", "Fire"), testClientId),
+				new CreateInsurancePolicyRequestDTO("POL-UP-DISTINCT", "Home", start, start.plusYears(1),
+						List.of("Flood", "Fire"), testClientId));
+		MockMultipartFile file = new MockMultipartFile("file", "policies.json", MediaType.APPLICATION_JSON_VALUE,
+				objectMapper.writeValueAsBytes(requests));
+
+		// when
+		MvcResult asyncResult = mockMvc.perform(multipart(API_UPLOAD_POLICY_URL).file(file))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		// then
+		mockMvc.perform(asyncDispatch(asyncResult))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.successCount").value(2))
+				.andExpect(jsonPath("$.failureCount").value(0));
+		for (String policyNumber : List.of("POL-UP-REPEATED", "POL-UP-DISTINCT")) {
+			UUID createdId = policyRepository.findAll().stream()
+					.filter(policy -> policy.getPolicyNumber().equals(policyNumber))
+					.findFirst().orElseThrow().getId();
+			assertThat(policyRepository.findWithDetailsById(createdId).orElseThrow().getCoveredRisks())
+					.containsExactly("Fire", "Flood");
+		}
+	}
+
+	@Test
+	@DisplayName("Test chunked upload resumes from last committed chunk and replays committed chunks functionality")
+	void shouldResumeChunkedUploadAndReplayCommittedChunk() throws Exception {
+		// given
+		String sessionUrl = createUploadSession();
+		uploadChunk(sessionUrl, 0, chunkRequests("POL-CHUNK-001", "POL-CHUNK-002"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.successCount").value(2))
+				.andExpect(jsonPath("$.nextChunk").value(1))
+				.andExpect(jsonPath("$.replayed").value(false));
+
+		// when
+		ResultActions replay = uploadChunk(sessionUrl, 0, chunkRequests("POL-CHUNK-001", "POL-CHUNK-002"));
+		ResultActions next = uploadChunk(sessionUrl, 1, chunkRequests("POL-CHUNK-002", "POL-CHUNK-003"));
+
+		// then
+		replay.andExpect(status().isOk())
+				.andExpect(jsonPath("$.successCount").value(2))
+				.andExpect(jsonPath("$.failureCount").value(0))
+				.andExpect(jsonPath("$.replayed").value(true));
+		next.andExpect(status().isOk())
+				.andExpect(jsonPath("$.successCount").value(1))
+				.andExpect(jsonPath("$.failureCount").value(1))
+				.andExpect(jsonPath("$.nextChunk").value(2));
+		mockMvc.perform(get(sessionUrl))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.nextChunk").value(2))
+				.andExpect(jsonPath("$.successCount").value(3))
+				.andExpect(jsonPath("$.failureCount").value(1))
+				.andExpect(jsonPath("$.completed").value(false));
+		assertThat(policyRepository.count()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("Test chunked upload rejects skipped chunks and chunks after completion functionality")
+	void shouldRejectOutOfOrderChunkAndChunkAfterCompletion() throws Exception {
+		// given
+		String sessionUrl = createUploadSession();
+		uploadChunk(sessionUrl, 0, chunkRequests("POL-CHUNK-001")).andExpect(status().isOk());
+
+		// when
+		ResultActions skipped = uploadChunk(sessionUrl, 2, chunkRequests("POL-CHUNK-003"));
+		ResultActions completed = mockMvc.perform(post(sessionUrl + "/_complete"));
+		ResultActions afterCompletion = uploadChunk(sessionUrl, 1, chunkRequests("POL-CHUNK-002"));
+
+		// then
+		skipped.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value(containsString("expects chunk 1, got 2")));
+		completed.andExpect(status().isOk())
+				.andExpect(jsonPath("$.completed").value(true))
+				.andExpect(jsonPath("$.successCount").value(1));
+		afterCompletion.andExpect(status().isBadRequest());
+		assertThat(policyRepository.existsByPolicyNumber("POL-CHUNK-003")).isFalse();
+		assertThat(policyRepository.existsByPolicyNumber("POL-CHUNK-002")).isFalse();
+	}
+
+	@Test
+	@DisplayName("Test resent committed chunk with different content rejected functionality")
+	void shouldRejectResentChunkWithDifferentContent() throws Exception {
+		// given
+		String sessionUrl = createUploadSession();
+		uploadChunk(sessionUrl, 0, chunkRequests("POL-CHUNK-001")).andExpect(status().isOk());
+
+		// when
+		ResultActions changed = uploadChunk(sessionUrl, 0, chunkRequests("POL-CHUNK-001", "POL-CHUNK-002"));
+
+		// then
+		changed.andExpect(status().isConflict())
+				.andExpect(jsonPath("$.message").value(containsString("already committed with different content")));
+		assertThat(policyRepository.existsByPolicyNumber("POL-CHUNK-002")).isFalse();
+		mockMvc.perform(get(sessionUrl))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.nextChunk").value(1))
+				.andExpect(jsonPath("$.successCount").value(1));
+	}
+
+	@Test
+	@DisplayName("Test idle upload sessions purged with their chunks functionality")
+	void shouldPurgeIdleUploadSessions() throws Exception {
+		// given
+		String sessionUrl = createUploadSession();
+		uploadChunk(sessionUrl, 0, chunkRequests("POL-CHUNK-001")).andExpect(status().isOk());
+
+		// when
+		int purged = uploadSessionRepository.deleteUpdatedBefore(LocalDateTime.now().plusMinutes(1));
+
+		// then
+		assertThat(purged).isPositive();
+		mockMvc.perform(get(sessionUrl)).andExpect(status().isNotFound());
+		assertThat(policyRepository.existsByPolicyNumber("POL-CHUNK-001")).isTrue();
+	}
+
+	@Test
+	@DisplayName("Test chunk for unknown upload session functionality")
+	void shouldReturnNotFoundForUnknownUploadSession() throws Exception {
+		uploadChunk(API_UPLOAD_SESSION_URL + "/" + UUID.randomUUID(), 0, chunkRequests("POL-CHUNK-001"))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	@DisplayName("Test bulk update policies by ids functionality")
+	void shouldBulkUpdatePoliciesByIds() throws Exception {
+		// given
+		LocalDate newEndDate = LocalDate.now().plusYears(3);
+		UUID first = savePolicy("POL-BULK-001", "Auto");
+		UUID second = savePolicy("POL-BULK-002", "Auto");
+		UUID untouched = savePolicy("POL-BULK-003", "Auto");
+		BulkUpdatePolicyRequestDTO request = new BulkUpdatePolicyRequestDTO(
+				List.of(first, second, first), 
+				null, 
+				"Auto Premium", 
+				newEndDate);
+
+		// when
+		statementCounter.reset();
+		performBulk(API_BULK_UPDATE_POLICY_URL, request)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.affectedCount").value(2));
+		int updateCount = statementCounter.count();
+
+		// then: one set-based update for the chunk; repeating it changes nothing
+		assertThat(updateCount).isEqualTo(1);
+		assertThat(policyRepository.findAllById(List.of(first, second)))
+				.allSatisfy(policy -> {
+					assertThat(policy.getPolicyType()).isEqualTo("Auto Premium");
+					assertThat(policy.getEndDate()).isEqualTo(newEndDate);
+				});
+		assertThat(policyRepository.findById(untouched).orElseThrow().getPolicyType()).isEqualTo("Auto");
+		performBulk(API_BULK_UPDATE_POLICY_URL, request)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.affectedCount").value(0));
+	}
+
+	@Test
+	@DisplayName("Test bulk update rejects end date before start of a selected policy functionality")
+	void shouldRejectBulkUpdateEndingBeforeStart() throws Exception {
+		// given
+		UUID policyId = savePolicy("POL-BULK-004", "Travel");
+		BulkUpdatePolicyRequestDTO request = new BulkUpdatePolicyRequestDTO(
+				null,
+				new PolicyPageableRequestDTO(testClientId, null, null, null, null), 
+				null, 
+				LocalDate.now().plusDays(1));
+
+		// when
+		performBulk(API_BULK_UPDATE_POLICY_URL, request)
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value("End date must be after start date of every selected policy"));
+
+		// then
+		assertThat(policyRepository.findById(policyId).orElseThrow().getEndDate())
+				.isEqualTo(LocalDate.now().plusYears(1));
+	}
+
+	@Test
+	@DisplayName("Test bulk delete policies by filter functionality")
+	void shouldBulkDeletePoliciesByFilter() throws Exception {
+		// given
+		savePolicy("POL-BULK-005", "Travel");
+		savePolicy("POL-BULK-006", "Travel");
+		UUID kept = savePolicy("POL-BULK-007", "Life");
+		BulkDeletePolicyRequestDTO request = new BulkDeletePolicyRequestDTO(
+				null, 
+				new PolicyPageableRequestDTO(testClientId, "Travel", null, 0, 1));
+
+		// when
+		performBulk(API_BULK_DELETE_POLICY_URL, request)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.affectedCount").value(2));
+
+		// then
+		assertThat(policyRepository.findAll()).extracting(InsurancePolicy::getId).containsExactly(kept);
+	}
+
+	@Test
+	@DisplayName("Test bulk delete policies by ids in one statement functionality")
+	void shouldBulkDeletePoliciesByIdsInOneStatement() throws Exception {
+		// given
+		UUID first = savePolicy("POL-BULK-008", "Auto");
+		UUID second = savePolicy("POL-BULK-009", "Auto");
+		BulkDeletePolicyRequestDTO request = new BulkDeletePolicyRequestDTO(
+				List.of(first, second, UUID.randomUUID()), 
+				null);
+
+		// when
+		statementCounter.reset();
+		performBulk(API_BULK_DELETE_POLICY_URL, request)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.affectedCount").value(2));
+
+		// then
+		assertThat(statementCounter.count()).isEqualTo(1);
+		assertThat(policyRepository.count()).isZero();
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("invalidBulkSelectionProvider")
+	@DisplayName("Test reject invalid bulk selection functionality")
+	void shouldRejectInvalidBulkSelection(String scenario, BulkDeletePolicyRequestDTO request, String message)
+			throws Exception {
+		// given
+		savePolicy("POL-BULK-010", "Auto");
+
+		// when
+		performBulk(API_BULK_DELETE_POLICY_URL, request)
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value(message));
+
+		// then
+		assertThat(policyRepository.count()).isEqualTo(1);
+	}
+
+	private static Stream<Arguments> invalidBulkSelectionProvider() {
+		PolicyPageableRequestDTO filter = new PolicyPageableRequestDTO(null, "Auto", null, null, null);
+		return Stream.of(
+				Arguments.of("Neither ids nor filter", 
+						new BulkDeletePolicyRequestDTO(null, null),
+						"Exactly one of ids or filter must be provided"),
+				Arguments.of("Both ids and filter", 
+						new BulkDeletePolicyRequestDTO(List.of(UUID.randomUUID()), filter),
+						"Exactly one of ids or filter must be provided"),
+				Arguments.of("Filter without criteria",
+						new BulkDeletePolicyRequestDTO(null, new PolicyPageableRequestDTO(null, " ", null, null, null)),
+						"Filter must contain at least one criterion"));
+	}
+
+	private UUID savePolicy(String policyNumber, String policyType) {
+		InsurancePolicy policy = InsurancePolicy.builder()
+				.policyNumber(policyNumber)
+				.policyType(policyType)
+				.startDate(LocalDate.now().plusDays(1))
+				.endDate(LocalDate.now().plusYears(1))
+				.coveredRisks(new HashSet<>(Set.of("Collision")))
+				.client(clientRepository.getReferenceById(testClientId))
+				.build();
+		return policyRepository.save(policy).getId();
+	}
+
+	private String createUploadSession() throws Exception {
+		MvcResult result = mockMvc.perform(post(API_UPLOAD_SESSION_URL))
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.nextChunk").value(0))
+				.andReturn();
+		return API_UPLOAD_SESSION_URL + "/"
+				+ objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+	}
+
+	private List<CreateInsurancePolicyRequestDTO> chunkRequests(String... policyNumbers) {
+		LocalDate start = LocalDate.now().plusDays(1);
+		return Stream.of(policyNumbers)
+				.map(policyNumber -> new CreateInsurancePolicyRequestDTO(policyNumber, "Auto", start,
+						start.plusYears(1), List.of("Collision"), testClientId))
+				.toList();
+	}
+
+	private ResultActions uploadChunk(String sessionUrl, int chunk, List<CreateInsurancePolicyRequestDTO> requests)
+			throws Exception {
+		MockMultipartFile file = new MockMultipartFile("file", "chunk.json", MediaType.APPLICATION_JSON_VALUE,
+				objectMapper.writeValueAsBytes(requests));
+		MvcResult asyncResult = mockMvc.perform(multipart(HttpMethod.PUT, sessionUrl + "/chunks/" + chunk).file(file))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		return mockMvc.perform(asyncDispatch(asyncResult));
+	}
+
+	private ResultActions performBulk(String url, Object request) throws Exception {
+		MvcResult asyncResult = mockMvc.perform(post(url)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		return mockMvc.perform(asyncDispatch(asyncResult));
+	}
+
 	private static Stream<Arguments> invalidDateCombinations() {
 		LocalDate today = LocalDate.now();
 		return Stream.of(
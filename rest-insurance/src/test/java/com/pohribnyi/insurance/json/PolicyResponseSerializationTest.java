@@ -0,0 +1,151 @@
+package com.pohribnyi.insurance.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyPageableResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicySummaryResponseDTO;
+import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+
+@DisplayName("Policy Response Serialization Tests")
+class PolicyResponseSerializationTest extends BaseIntegrationTest {
+
+	private static final String API_POLICY_URL = "/api/insurance_policy";
+	private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+	private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+	/** Plain reflective mapper configured like Spring Boot's default one. */
+	private static final ObjectMapper REFLECTIVE_MAPPER = JsonMapper.builder()
+			.addModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ClientRepository clientRepository;
+
+	@Autowired
+	private InsurancePolicyRepository policyRepository;
+
+	private UUID policyId;
+
+	@BeforeEach
+	void setUp() {
+		policyRepository.deleteAll();
+		clientRepository.deleteAll();
+
+		Client client = clientRepository.save(Client.builder()
+				.firstName("Binary")
+				.lastName("Caller")
+				.email("binary@example.com")
+				.build());
+		policyId = policyRepository.save(InsurancePolicy.builder()
+				.policyNumber("POL-BIN-001")
+				.policyType("Travel")
+				.startDate(LocalDate.now().plusDays(1))
+				.endDate(LocalDate.now().plusYears(1))
+				.coveredRisks(Set.of("Luggage", "Medical"))
+				.client(client)
+				.build()).getId();
+	}
+
+	@Test
+	@DisplayName("Test hand-written serializers match default record serialization functionality")
+	void shouldMatchDefaultSerialization() throws Exception {
+		// given
+		ClientResponseDTO client = new ClientResponseDTO(UUID.randomUUID(), "Jane", "Doe", "jane\"doe@example.com");
+		InsurancePolicyResponseDTO policy = new InsurancePolicyResponseDTO(UUID.randomUUID(), "POL-1", "Auto",
+				LocalDate.of(2026, 1, 31), LocalDate.of(2027, 1, 30), List.of("Theft", "Glass"), client);
+		InsurancePolicyResponseDTO withNulls = new InsurancePolicyResponseDTO(UUID.randomUUID(), "POL-2", null,
+				null, null, null, null);
+		PolicyPageableResponseDTO page = new PolicyPageableResponseDTO(List.of(
+				new PolicySummaryResponseDTO(UUID.randomUUID(), "POL-3", "Life", LocalDate.of(2026, 2, 1),
+						LocalDate.of(2030, 2, 1)),
+				new PolicySummaryResponseDTO(null, "POL-4", null, null, null)), 2);
+
+		// when
+		// then
+		for (Object value : List.of(client, policy, withNulls, page)) {
+			assertThat(objectMapper.writeValueAsString(value)).isEqualTo(REFLECTIVE_MAPPER.writeValueAsString(value));
+		}
+	}
+
+	@Test
+	@DisplayName("Test get policy as Smile functionality")
+	void shouldNegotiateSmile() throws Exception {
+		// given
+		JsonNode json = objectMapper.readTree(mockMvc.perform(get(API_POLICY_URL + "/" + policyId))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsByteArray());
+
+		// when
+		byte[] smile = mockMvc.perform(get(API_POLICY_URL + "/" + policyId).accept(SMILE))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Type", SMILE.toString()))
+				.andReturn().getResponse().getContentAsByteArray();
+
+		// then
+		InsurancePolicyResponseDTO decoded = new SmileMapper().findAndRegisterModules()
+				.readValue(smile, InsurancePolicyResponseDTO.class);
+		JsonNode decodedTree = objectMapper.valueToTree(decoded);
+		assertThat(decodedTree).isEqualTo(json);
+		assertThat(smile.length).isLessThan(objectMapper.writeValueAsBytes(json).length);
+	}
+
+	@Test
+	@DisplayName("Test list policies as CBOR functionality")
+	void shouldNegotiateCbor() throws Exception {
+		// given
+		String request = "{\"page\":0,\"size\":10}";
+
+		// when
+		byte[] cbor = mockMvc.perform(post(API_POLICY_URL + "/_list")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(request)
+				.accept(CBOR))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Type", CBOR.toString()))
+				.andReturn().getResponse().getContentAsByteArray();
+
+		// then
+		PolicyPageableResponseDTO decoded = new CBORMapper().findAndRegisterModules()
+				.readValue(cbor, PolicyPageableResponseDTO.class);
+		assertThat(decoded.list()).hasSize(1);
+		assertThat(decoded.list().get(0).id()).isEqualTo(policyId);
+		assertThat(decoded.list().get(0).policyNumber()).isEqualTo("POL-BIN-001");
+	}
+
+}
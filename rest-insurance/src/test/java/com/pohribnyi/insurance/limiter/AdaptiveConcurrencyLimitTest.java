@@ -0,0 +1,137 @@
+package com.pohribnyi.insurance.limiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.pohribnyi.insurance.BaseIntegrationTest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@DisplayName("Adaptive Concurrency Limit Tests")
+class AdaptiveConcurrencyLimitTest extends BaseIntegrationTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private AdaptiveConcurrencyLimitFilter limitFilter;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	@DisplayName("Test shed request with 503 and Retry-After when limit is reached functionality")
+	void shouldShedRequestWhenLimitIsReached() throws Exception {
+		// given
+		GradientLimit limit = limitFilter.limit("client-read");
+		int acquired = 0;
+		while (limit.tryAcquire()) {
+			acquired++;
+		}
+		double rejectedBefore = meterRegistry.counter("insurance.concurrency.rejected", "group", "client-read").count();
+
+		try {
+			// when
+			// then
+			mockMvc.perform(get("/api/client"))
+					.andExpect(status().isServiceUnavailable())
+					.andExpect(header().string("Retry-After", "1"))
+					.andExpect(jsonPath("$.status").value(503));
+
+			assertThat(meterRegistry.counter("insurance.concurrency.rejected", "group", "client-read").count())
+					.isEqualTo(rejectedBefore + 1);
+		} finally {
+			for (int i = 0; i < acquired; i++) {
+				limit.release(-1, false);
+			}
+		}
+
+		mockMvc.perform(get("/api/client")).andExpect(status().isOk());
+	}
+
+	@Test
+	@DisplayName("Test expose current limit per route group as metric functionality")
+	void shouldExposeLimitAsMetric() throws Exception {
+		// given
+		mockMvc.perform(get("/api/client")).andExpect(status().isOk());
+
+		// when
+		double gauge = meterRegistry.get("insurance.concurrency.limit").tag("group", "client-read").gauge().value();
+
+		// then
+		assertThat(gauge).isEqualTo(limitFilter.limit("client-read").getLimit());
+	}
+
+	@Test
+	@DisplayName("Test limit grows under load with steady latency functionality")
+	void shouldGrowLimitWhenLatencyIsSteady() {
+		// given
+		GradientLimit limit = new GradientLimit(20, 4, 200, 1.5);
+
+		// when
+		for (int i = 0; i < 50; i++) {
+			saturatedSample(limit, 10);
+		}
+
+		// then
+		assertThat(limit.getLimit()).isGreaterThan(20);
+	}
+
+	@Test
+	@DisplayName("Test limit shrinks when latency rises above baseline functionality")
+	void shouldShrinkLimitWhenLatencyRises() {
+		// given
+		GradientLimit limit = new GradientLimit(20, 4, 200, 1.5);
+		for (int i = 0; i < 50; i++) {
+			saturatedSample(limit, 10);
+		}
+		int steadyLimit = limit.getLimit();
+
+		// when
+		for (int i = 0; i < 50; i++) {
+			saturatedSample(limit, 100);
+		}
+
+		// then
+		assertThat(limit.getLimit()).isLessThan(steadyLimit / 2);
+	}
+
+	@Test
+	@DisplayName("Test limit backs off on failed requests functionality")
+	void shouldBackOffOnFailures() {
+		// given
+		GradientLimit limit = new GradientLimit(20, 4, 200, 1.5);
+
+		// when
+		for (int i = 0; i < 100; i++) {
+			limit.tryAcquire();
+			limit.release(TimeUnit.MILLISECONDS.toNanos(10), true);
+		}
+
+		// then
+		assertThat(limit.getLimit()).isEqualTo(4);
+		assertThat(limit.getInFlight()).isZero();
+	}
+
+	private static void saturatedSample(GradientLimit limit, long rttMillis) {
+		int acquired = 0;
+		while (limit.tryAcquire()) {
+			acquired++;
+		}
+		limit.release(TimeUnit.MILLISECONDS.toNanos(rttMillis), false);
+		for (int i = 1; i < acquired; i++) {
+			limit.release(-1, false);
+		}
+	}
+
+}
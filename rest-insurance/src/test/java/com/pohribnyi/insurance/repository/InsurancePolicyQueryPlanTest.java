@@ -0,0 +1,190 @@
+package com.pohribnyi.insurance.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.SqlStatementCounter;
+import com.pohribnyi.insurance.SqlStatementCounter.ExecutedStatement;
+import com.pohribnyi.insurance.benchmark.PolicyDataSeeder;
+import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
+import com.pohribnyi.insurance.service.InsurancePolicyService;
+import com.pohribnyi.insurance.service.PolicyArchiveService;
+import com.pohribnyi.insurance.service.ReportProperties;
+import com.pohribnyi.insurance.service.ReportService;
+
+/**
+ * Runs {@code EXPLAIN (ANALYZE, BUFFERS)} for the list and count queries
+ * generated by {@link InsurancePolicySpecification} and for the report range
+ * queries of {@link PolicyReportRepository}, for every filter combination, with
+ * and without archived policies. Part of the fixture is archived first. Queries
+ * filtered by client or policy number must not scan {@code insurance_policies}
+ * or {@code insurance_policies_archive} sequentially, and every query must stay
+ * within a budget of buffers and filtered-out rows.
+ */
+@DisplayName("Insurance Policy Query Plan Regression Tests")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class InsurancePolicyQueryPlanTest extends BaseIntegrationTest {
+
+	private static final int CLIENTS = 400;
+	private static final int POLICIES_PER_CLIENT = 50;
+	private static final int SELECTIVE_BUFFER_BUDGET = 64;
+	private static final int SELECTIVE_FILTERED_ROWS_BUDGET = 100;
+	private static final Set<String> POLICY_TABLES = Set.of("insurance_policies", "insurance_policies_archive");
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private InsurancePolicyService policyService;
+
+	@Autowired
+	private ReportService reportService;
+
+	@Autowired
+	private ReportProperties reportProperties;
+
+	@Autowired
+	private PolicyArchiveService archiveService;
+
+	@Autowired
+	private SqlStatementCounter statementCounter;
+
+	private PolicyDataSeeder seeder;
+	private Map<String, Object> sample;
+	private long tablePages;
+
+	@BeforeAll
+	void seed() {
+		seeder = new PolicyDataSeeder(jdbcTemplate);
+		truncateTables();
+		seeder.seed(CLIENTS, POLICIES_PER_CLIENT, 1);
+		archiveService.archiveExpired();
+		jdbcTemplate.execute("ANALYZE insurance_policies, insurance_policies_archive, policy_covered_risks_archive");
+		sample = jdbcTemplate.queryForMap(
+				"SELECT client_id, policy_type, policy_number FROM insurance_policies ORDER BY policy_number LIMIT 1 OFFSET 1000");
+		tablePages = jdbcTemplate.queryForObject(
+				"SELECT relpages FROM pg_class WHERE relname = 'insurance_policies'", Long.class);
+	}
+
+	@AfterAll
+	void clear() {
+		truncateTables();
+	}
+
+	static Stream<Arguments> filterCombinations() {
+		List<Arguments> combinations = new ArrayList<>();
+		for (int mask = 0; mask < 16; mask++) {
+			combinations.add(Arguments.of((mask & 1) != 0, (mask & 2) != 0, (mask & 4) != 0, (mask & 8) != 0));
+		}
+		return combinations.stream();
+	}
+
+	@ParameterizedTest(name = "Test list and count plans for clientId={0}, policyType={1}, policyNumber={2}, "
+			+ "includeArchived={3} functionality")
+	@MethodSource("filterCombinations")
+	void shouldKeepListAndCountPlansWithinBudget(boolean byClient, boolean byType, boolean byNumber,
+			boolean includeArchived) {
+		// given
+		PolicyPageableRequestDTO request = request(byClient, byType, byNumber, includeArchived, 1);
+
+		// when
+		statementCounter.reset();
+		policyService.getPolicies(request);
+		List<ExecutedStatement> statements = statementCounter.statements();
+
+		// then
+		assertThat(statements).hasSize(2);
+		statements.forEach(statement -> assertPlan(statement, byClient || byNumber));
+	}
+
+	@ParameterizedTest(name = "Test report plan for clientId={0}, policyType={1}, policyNumber={2}, "
+			+ "includeArchived={3} functionality")
+	@MethodSource("filterCombinations")
+	void shouldKeepReportPlanWithinBudget(boolean byClient, boolean byType, boolean byNumber,
+			boolean includeArchived) throws Exception {
+		// given
+		PolicyPageableRequestDTO request = request(byClient, byType, byNumber, includeArchived, null);
+		boolean selective = byClient || byNumber;
+
+		// when
+		statementCounter.reset();
+		reportService.generateCsvReport(request);
+		List<ExecutedStatement> rangeQueries = statementCounter.statements().stream()
+				.filter(statement -> statement.sql().contains("FROM insurance_policies"))
+				.toList();
+
+		// then
+		assertThat(rangeQueries).hasSize(selective ? 1 : reportProperties.partitions());
+		rangeQueries.forEach(statement -> assertPlan(statement, selective));
+	}
+
+	private PolicyPageableRequestDTO request(boolean byClient, boolean byType, boolean byNumber,
+			boolean includeArchived, Integer size) {
+		return new PolicyPageableRequestDTO(
+				byClient ? (UUID) sample.get("client_id") : null,
+				byType ? (String) sample.get("policy_type") : null,
+				byNumber ? (String) sample.get("policy_number") : null,
+				0,
+				size,
+				includeArchived);
+	}
+
+	private void assertPlan(ExecutedStatement statement, boolean selective) {
+		JsonNode plan = explain(statement);
+		List<JsonNode> nodes = new ArrayList<>();
+		collect(plan, nodes);
+
+		long buffers = plan.path("Shared Hit Blocks").asLong() + plan.path("Shared Read Blocks").asLong();
+		long filteredRows = nodes.stream().mapToLong(node -> node.path("Rows Removed by Filter").asLong()).sum();
+		boolean policySeqScan = nodes.stream().anyMatch(node -> "Seq Scan".equals(node.path("Node Type").asText())
+				&& POLICY_TABLES.contains(node.path("Relation Name").asText()));
+
+		String description = statement.sql() + System.lineSeparator() + plan.toPrettyString();
+		if (selective) {
+			assertThat(policySeqScan).as("sequential scan on %s in%n%s", POLICY_TABLES, description).isFalse();
+			assertThat(buffers).as("buffers in%n%s", description).isLessThanOrEqualTo(SELECTIVE_BUFFER_BUDGET);
+			assertThat(filteredRows).as("rows removed by filter in%n%s", description)
+					.isLessThanOrEqualTo(SELECTIVE_FILTERED_ROWS_BUDGET);
+		} else {
+			assertThat(buffers).as("buffers in%n%s", description).isLessThanOrEqualTo(tablePages * 2 + 64);
+		}
+	}
+
+	private JsonNode explain(ExecutedStatement statement) {
+		String json = jdbcTemplate.queryForObject("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + statement.sql(),
+				String.class, statement.parameters().toArray());
+		try {
+			return objectMapper.readTree(json).get(0).get("Plan");
+		} catch (Exception e) {
+			throw new IllegalStateException("Cannot parse plan for " + statement.sql(), e);
+		}
+	}
+
+	private void collect(JsonNode node, List<JsonNode> nodes) {
+		nodes.add(node);
+		node.path("Plans").forEach(child -> collect(child, nodes));
+	}
+
+}
@@ -0,0 +1,161 @@
+package com.pohribnyi.insurance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.dto.request.ClientRequestDTO;
+import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
+
+@DisplayName("Drop Directory Ingestion Tests")
+@TestPropertySource(properties = {
+		"insurance.drop-directory.enabled=true",
+		"insurance.drop-directory.directory=${java.io.tmpdir}/drop-directory-test",
+		"insurance.drop-directory.region-size=1KB" })
+class DropDirectoryIngestionTest extends BaseIntegrationTest {
+
+	@Autowired
+	private DropDirectoryProperties properties;
+
+	@Autowired
+	private ClientService clientService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private UUID clientId;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		truncateTables();
+		for (String subdirectory : List.of(DropDirectoryIngestionService.DONE, DropDirectoryIngestionService.ERROR)) {
+			FileSystemUtils.deleteRecursively(properties.directory().resolve(subdirectory));
+			Files.createDirectories(properties.directory().resolve(subdirectory));
+		}
+		clientId = clientService.createClient(new ClientRequestDTO("Drop", "Client", "drop@example.com")).id();
+	}
+
+	@Test
+	@DisplayName("Test dropped file spanning several mapped regions uploaded and moved to done functionality")
+	void shouldUploadDroppedFileAndMoveItToDone() throws Exception {
+		// given
+		List<CreateInsurancePolicyRequestDTO> requests = IntStream.range(0, 20)
+				.mapToObj(i -> new CreateInsurancePolicyRequestDTO(
+						"POL-DROP-" + i,
+						"Auto",
+						LocalDate.now().plusDays(1),
+						LocalDate.now().plusYears(1),
+						List.of("Collision"),
+						i == 19 ? UUID.randomUUID() : clientId))
+				.toList();
+		byte[] content = objectMapper.writeValueAsBytes(requests);
+
+		// when
+		drop("policies.json", content);
+		JsonNode report = awaitReport(DropDirectoryIngestionService.DONE);
+
+		// then
+		assertThat(content.length).isGreaterThan(2048);
+		assertThat(report.get("file").asText()).isEqualTo("policies.json");
+		assertThat(report.get("successCount").asInt()).isEqualTo(19);
+		assertThat(report.get("failureCount").asInt()).isEqualTo(1);
+		assertThat(report.get("error").isNull()).isTrue();
+		assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM insurance_policies WHERE client_id = ?",
+				Integer.class, clientId)).isEqualTo(19);
+		assertThat(properties.directory().resolve("policies.json")).doesNotExist();
+	}
+
+	@Test
+	@DisplayName("Test dropped file without a JSON array moved to error functionality")
+	void shouldMoveUnreadableFileToError() throws Exception {
+		// given
+		byte[] content = "{\"policyNumber\": \"POL-DROP-1\"}".getBytes();
+
+		// when
+		drop("broken.json", content);
+		JsonNode report = awaitReport(DropDirectoryIngestionService.ERROR);
+
+		// then
+		assertThat(report.get("file").asText()).isEqualTo("broken.json");
+		assertThat(report.get("error").asText()).contains("JSON array");
+		assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM insurance_policies", Integer.class))
+				.isZero();
+	}
+
+	@Test
+	@DisplayName("Test dropped file cut off after a full chunk reports the stored chunk functionality")
+	void shouldReportStoredChunksOfFileFailingPartWay() throws Exception {
+		// given
+		List<CreateInsurancePolicyRequestDTO> requests = IntStream.range(0, UploadService.CHUNK_SIZE + 1)
+				.mapToObj(i -> new CreateInsurancePolicyRequestDTO(
+						"POL-DROP-" + i,
+						"Auto",
+						LocalDate.now().plusDays(1),
+						LocalDate.now().plusYears(1),
+						List.of("Collision"),
+						clientId))
+				.toList();
+		byte[] complete = objectMapper.writeValueAsBytes(requests);
+		byte[] content = Arrays.copyOf(complete, complete.length - 20);
+
+		// when
+		drop("truncated.json", content);
+		JsonNode report = awaitReport(DropDirectoryIngestionService.ERROR);
+
+		// then
+		assertThat(report.get("file").asText()).isEqualTo("truncated.json");
+		assertThat(report.get("successCount").asInt()).isEqualTo(UploadService.CHUNK_SIZE);
+		assertThat(report.get("failureCount").asInt()).isZero();
+		assertThat(report.get("error").isNull()).isFalse();
+		assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM insurance_policies", Integer.class))
+				.isEqualTo(UploadService.CHUNK_SIZE);
+	}
+
+	/**
+	 * Writes under a name the watcher ignores and renames it into place, the
+	 * way producers are expected to drop files.
+	 */
+	private void drop(String name, byte[] content) throws IOException {
+		Path partial = Files.write(properties.directory().resolve(name + ".part"), content);
+		Files.move(partial, properties.directory().resolve(name), StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private JsonNode awaitReport(String subdirectory) throws Exception {
+		for (int attempt = 0; attempt < 100; attempt++) {
+			Optional<Path> report;
+			try (Stream<Path> files = Files.list(properties.directory().resolve(subdirectory))) {
+				report = files.filter(file -> file.getFileName().toString().endsWith(".result.json")).findFirst();
+			}
+			if (report.isPresent()) {
+				return objectMapper.readTree(report.get().toFile());
+			}
+			Thread.sleep(100);
+		}
+		throw new AssertionError("No report in " + subdirectory);
+	}
+
+}
@@ -0,0 +1,171 @@
+package com.pohribnyi.insurance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestPropertySource;
+
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.dto.request.ClientRequestDTO;
+import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
+import com.pohribnyi.insurance.util.exception.ResourceNotFoundException;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@DisplayName("Flight Recorder Events Tests")
+@TestPropertySource(properties = {
+		"insurance.result-cache.enabled=true",
+		"insurance.result-cache.max-entries=3",
+		"insurance.result-cache.spill-threshold=1KB",
+		"insurance.result-cache.directory=${java.io.tmpdir}/policy-result-cache-test" })
+class FlightRecorderEventsTest extends BaseIntegrationTest {
+
+	private static final String POLICY_OPERATION = "com.pohribnyi.insurance.PolicyOperation";
+	private static final String UPLOAD_CHUNK = "com.pohribnyi.insurance.UploadChunk";
+	private static final String REPORT_GENERATION = "com.pohribnyi.insurance.ReportGeneration";
+	private static final String RESULT_CACHE = "com.pohribnyi.insurance.ResultCache";
+
+	@Autowired
+	private InsurancePolicyService policyService;
+
+	@Autowired
+	private UploadService uploadService;
+
+	@Autowired
+	private ReportService reportService;
+
+	@Autowired
+	private ClientService clientService;
+
+	private UUID clientId;
+
+	@BeforeEach
+	void setUp() {
+		truncateTables();
+		clientId = clientService.createClient(new ClientRequestDTO("Jfr", "Client", "jfr@example.com")).id();
+	}
+
+	@Test
+	@DisplayName("Test policy operations recorded with their failures functionality")
+	void shouldRecordPolicyOperations() throws Exception {
+		// given
+		UUID missingId = UUID.randomUUID();
+
+		// when
+		List<RecordedEvent> events = record(() -> {
+			policyService.createPolicy(policyRequest("POL-JFR-001"));
+			assertThatThrownBy(() -> policyService.getPolicyById(missingId))
+					.isInstanceOf(ResourceNotFoundException.class);
+			return null;
+		});
+
+		// then
+		assertThat(events).filteredOn(event -> event.getEventType().getName().equals(POLICY_OPERATION))
+				.extracting(event -> event.getString("operation"), event -> event.getString("failure"))
+				.containsExactly(
+						tuple("create", null),
+						tuple("get", "ResourceNotFoundException"));
+	}
+
+	@Test
+	@DisplayName("Test upload chunk recorded with rows, inserted and failures functionality")
+	void shouldRecordUploadChunk() throws Exception {
+		// given
+		policyService.createPolicy(policyRequest("POL-JFR-TAKEN"));
+		String body = "[" + policyJson("POL-JFR-NEW") + "," + policyJson("POL-JFR-TAKEN") + "]";
+		MockMultipartFile file = new MockMultipartFile("file", "policies.json", MediaType.APPLICATION_JSON_VALUE,
+				body.getBytes(StandardCharsets.UTF_8));
+
+		// when
+		List<RecordedEvent> events = record(() -> uploadService.uploadPolicies(file));
+
+		// then
+		RecordedEvent chunk = single(events, UPLOAD_CHUNK);
+		assertThat(chunk.getInt("rows")).isEqualTo(2);
+		assertThat(chunk.getInt("inserted")).isEqualTo(1);
+		assertThat(chunk.getInt("failures")).isEqualTo(1);
+		assertThat(chunk.getBoolean("rowByRow")).isFalse();
+	}
+
+	@Test
+	@DisplayName("Test report generation and cache lookup recorded functionality")
+	void shouldRecordReportGenerationAndCacheLookup() throws Exception {
+		// given
+		policyService.createPolicy(policyRequest("POL-JFR-001"));
+		policyService.createPolicy(policyRequest("POL-JFR-002"));
+		PolicyPageableRequestDTO request = new PolicyPageableRequestDTO(clientId, null, null, null, null);
+
+		// when
+		List<RecordedEvent> events = record(() -> reportService.generateCsvReport(request));
+
+		// then
+		RecordedEvent report = single(events, REPORT_GENERATION);
+		assertThat(report.getInt("partitions")).isEqualTo(1);
+		assertThat(report.getLong("rows")).isEqualTo(2);
+		assertThat(report.getLong("bytes")).isPositive();
+		RecordedEvent lookup = single(events, RESULT_CACHE);
+		assertThat(lookup.getString("kind")).isEqualTo("report");
+		assertThat(lookup.getString("outcome")).isEqualTo("miss");
+	}
+
+	private List<RecordedEvent> record(Callable<?> action) throws Exception {
+		Path file = Files.createTempFile("insurance-events", ".jfr");
+		try (Recording recording = new Recording()) {
+			for (String event : List.of(POLICY_OPERATION, UPLOAD_CHUNK, REPORT_GENERATION, RESULT_CACHE)) {
+				recording.enable(event).withThreshold(Duration.ZERO);
+			}
+			recording.start();
+			action.call();
+			recording.stop();
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private RecordedEvent single(List<RecordedEvent> events, String name) {
+		List<RecordedEvent> matching = events.stream()
+				.filter(event -> event.getEventType().getName().equals(name))
+				.toList();
+		assertThat(matching).hasSize(1);
+		return matching.get(0);
+	}
+
+	private CreateInsurancePolicyRequestDTO policyRequest(String policyNumber) {
+		return new CreateInsurancePolicyRequestDTO(
+				policyNumber,
+				"Auto",
+				LocalDate.now().plusDays(1),
+				LocalDate.now().plusYears(1),
+				List.of("Collision"),
+				clientId);
+	}
+
+	private String policyJson(String policyNumber) {
+		return """
+				{"policyNumber":"%s","policyType":"Auto","startDate":"%s","endDate":"%s",\
+				"coveredRisks":["Collision"],"clientId":"%s"}"""
+				.formatted(policyNumber, LocalDate.now().plusDays(1), LocalDate.now().plusYears(1), clientId);
+	}
+
+}
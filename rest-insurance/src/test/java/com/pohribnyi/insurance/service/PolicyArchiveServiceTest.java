@@ -0,0 +1,251 @@
+package com.pohribnyi.insurance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
+import com.pohribnyi.insurance.dto.request.UpdateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyPageableResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicySummaryResponseDTO;
+import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+import com.pohribnyi.insurance.util.exception.DuplicateResourceException;
+import com.pohribnyi.insurance.util.exception.ResourceConflictException;
+import com.pohribnyi.insurance.util.exception.ResourceNotFoundException;
+
+@DisplayName("Policy Archive Service Tests")
+class PolicyArchiveServiceTest extends BaseIntegrationTest {
+
+	@Autowired
+	private PolicyArchiveService archiveService;
+
+	@Autowired
+	private InsurancePolicyService policyService;
+
+	@Autowired
+	private PolicyStatisticsService statisticsService;
+
+	@Autowired
+	private ReportService reportService;
+
+	@Autowired
+	private ExportService exportService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ClientService clientService;
+
+	@Autowired
+	private ClientRepository clientRepository;
+
+	@Autowired
+	private InsurancePolicyRepository policyRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Client client;
+
+	@BeforeEach
+	void setUp() {
+		policyRepository.deleteAll();
+		clientRepository.deleteAll();
+		jdbcTemplate.update("DELETE FROM change_events");
+
+		client = clientRepository.save(Client.builder()
+				.firstName("Archive")
+				.lastName("Client")
+				.email("archive@example.com")
+				.build());
+	}
+
+	@Test
+	@DisplayName("Test archive long-expired policies and keep them readable functionality")
+	void shouldArchiveLongExpiredPolicies() {
+		// given
+		UUID expired = savePolicy("POL-ARCH-001", LocalDate.now().minusYears(5), LocalDate.now().minusYears(4));
+		UUID recent = savePolicy("POL-ARCH-002", LocalDate.now().minusYears(1), LocalDate.now().minusMonths(1));
+		UUID active = savePolicy("POL-ARCH-003", LocalDate.now().minusDays(1), LocalDate.now().plusYears(1));
+		statisticsService.refresh();
+		long totalBefore = statisticsService.getClientStatistics(client.getId()).totalCount();
+
+		// when
+		int archived = archiveService.archiveExpired();
+
+		// then
+		assertThat(archived).isEqualTo(1);
+		assertThat(policyRepository.findAll()).extracting(InsurancePolicy::getId).containsExactlyInAnyOrder(recent,
+				active);
+
+		InsurancePolicyResponseDTO fromArchive = policyService.getPolicyById(expired);
+		assertThat(fromArchive.policyNumber()).isEqualTo("POL-ARCH-001");
+		assertThat(fromArchive.coveredRisks()).containsExactly("Fire", "Flood");
+		assertThat(fromArchive.client().email()).isEqualTo("archive@example.com");
+
+		statisticsService.refresh();
+		assertThat(statisticsService.getClientStatistics(client.getId()).totalCount()).isEqualTo(totalBefore);
+		assertThat(jdbcTemplate.queryForList("SELECT operation FROM change_events WHERE entity_id = ?", String.class,
+				expired)).containsExactly("ARCHIVED");
+	}
+
+	@Test
+	@DisplayName("Test archived policies listed, reported and exported only on request functionality")
+	void shouldListReportAndExportArchivedPoliciesOnRequest() throws Exception {
+		// given
+		UUID expired = savePolicy("POL-ARCH-006", LocalDate.now().minusYears(5), LocalDate.now().minusYears(4));
+		UUID active = savePolicy("POL-ARCH-007", LocalDate.now().minusDays(1), LocalDate.now().plusYears(1));
+		archiveService.archiveExpired();
+		PolicyPageableRequestDTO current = new PolicyPageableRequestDTO(client.getId(), null, null, 0, 10);
+		PolicyPageableRequestDTO all = new PolicyPageableRequestDTO(client.getId(), null, null, 0, 10, true);
+
+		// when
+		PolicyPageableResponseDTO currentList = policyService.getPolicies(current);
+		String currentReport = new String(reportService.generateCsvReport(current), StandardCharsets.UTF_8);
+		ByteArrayOutputStream currentExport = new ByteArrayOutputStream();
+		exportService.exportNdjson(current, currentExport);
+		PolicyPageableResponseDTO allList = policyService.getPolicies(all);
+		String allReport = new String(reportService.generateCsvReport(all), StandardCharsets.UTF_8);
+		ByteArrayOutputStream allExport = new ByteArrayOutputStream();
+		exportService.exportNdjson(all, allExport);
+
+		// then
+		assertThat(currentList.list()).extracting(PolicySummaryResponseDTO::id).containsExactly(active);
+		assertThat(currentReport).contains("POL-ARCH-007").doesNotContain("POL-ARCH-006");
+		assertThat(currentExport.toString(StandardCharsets.UTF_8).lines().map(this::readPolicy))
+				.extracting(InsurancePolicyResponseDTO::id)
+				.containsExactly(active);
+
+		assertThat(allList.list()).extracting(PolicySummaryResponseDTO::id).containsExactlyInAnyOrder(expired, active);
+		assertThat(allReport).contains("POL-ARCH-006", "POL-ARCH-007");
+		assertThat(allExport.toString(StandardCharsets.UTF_8).lines().map(this::readPolicy))
+				.filteredOn(policy -> policy.id().equals(expired))
+				.singleElement()
+				.satisfies(policy -> assertThat(policy.coveredRisks()).containsExactly("Fire", "Flood"));
+	}
+
+	@Test
+	@DisplayName("Test 409 when updating or deleting archived policy functionality")
+	void shouldRejectWritesToArchivedPolicy() {
+		// given
+		UUID expired = savePolicy("POL-ARCH-008", LocalDate.now().minusYears(5), LocalDate.now().minusYears(4));
+		archiveService.archiveExpired();
+		UpdateInsurancePolicyRequestDTO update = new UpdateInsurancePolicyRequestDTO(
+				"Property", 
+				LocalDate.now().plusDays(1), 
+				LocalDate.now().plusYears(1), 
+				List.of("Fire"), 
+				client.getId());
+
+		// when
+		Throwable updateError = catchThrowable(() -> policyService.updatePolicy(expired, update));
+		Throwable deleteError = catchThrowable(() -> policyService.deletePolicy(expired));
+		Throwable missingError = catchThrowable(() -> policyService.deletePolicy(UUID.randomUUID()));
+
+		// then
+		assertThat(updateError).isInstanceOf(ResourceConflictException.class).hasMessageContaining("archived");
+		assertThat(deleteError).isInstanceOf(ResourceConflictException.class).hasMessageContaining("archived");
+		assertThat(missingError).isInstanceOf(ResourceNotFoundException.class);
+	}
+
+	@Test
+	@DisplayName("Test reject reuse of archived policy number functionality")
+	void shouldRejectArchivedPolicyNumber() {
+		// given
+		savePolicy("POL-ARCH-004", LocalDate.now().minusYears(5), LocalDate.now().minusYears(4));
+		archiveService.archiveExpired();
+
+		// when
+		CreateInsurancePolicyRequestDTO request = new CreateInsurancePolicyRequestDTO(
+				"POL-ARCH-004", 
+				"Property", 
+				LocalDate.now().plusDays(1), 
+				LocalDate.now().plusYears(1), 
+				List.of("Fire"), 
+				client.getId());
+
+		// then
+		assertThatThrownBy(() -> policyService.createPolicy(request))
+				.isInstanceOf(DuplicateResourceException.class)
+				.hasMessage("Policy with number POL-ARCH-004 already exists");
+	}
+
+	@Test
+	@DisplayName("Test reject renaming policy to archived policy number functionality")
+	void shouldRejectRenameToArchivedPolicyNumber() {
+		// given
+		savePolicy("POL-ARCH-009", LocalDate.now().minusYears(5), LocalDate.now().minusYears(4));
+		UUID active = savePolicy("POL-ARCH-010", LocalDate.now().minusDays(1), LocalDate.now().plusYears(1));
+		archiveService.archiveExpired();
+
+		// when
+		Throwable thrown = catchThrowable(() -> jdbcTemplate.update(
+				"UPDATE insurance_policies SET policy_number = 'POL-ARCH-009' WHERE id = ?", active));
+
+		// then
+		assertThat(thrown).isInstanceOf(DuplicateKeyException.class);
+	}
+
+	@Test
+	@DisplayName("Test client delete removes archived policies functionality")
+	void shouldDeleteArchivedPoliciesWithClient() {
+		// given
+		UUID expired = savePolicy("POL-ARCH-005", LocalDate.now().minusYears(5), LocalDate.now().minusYears(4));
+		archiveService.archiveExpired();
+
+		// when
+		clientService.deleteClient(client.getId());
+
+		// then
+		assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM insurance_policies_archive", Integer.class))
+				.isZero();
+		assertThat(jdbcTemplate.queryForList(
+				"SELECT operation FROM change_events WHERE entity_id = ? ORDER BY id", String.class, expired))
+				.containsExactly("ARCHIVED", "DELETED");
+	}
+
+	private InsurancePolicyResponseDTO readPolicy(String line) {
+		try {
+			return objectMapper.readValue(line, InsurancePolicyResponseDTO.class);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private UUID savePolicy(String policyNumber, LocalDate startDate, LocalDate endDate) {
+		return policyRepository.save(InsurancePolicy.builder()
+				.policyNumber(policyNumber)
+				.policyType("Property")
+				.startDate(startDate)
+				.endDate(endDate)
+				.coveredRisks(new HashSet<>(Set.of("Flood", "Fire")))
+				.client(client)
+				.build()).getId();
+	}
+
+}
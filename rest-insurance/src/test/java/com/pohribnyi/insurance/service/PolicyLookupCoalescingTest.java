@@ -0,0 +1,183 @@
+package com.pohribnyi.insurance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.SqlStatementCounter;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
+import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+import com.pohribnyi.insurance.util.exception.ResourceNotFoundException;
+
+/**
+ * Holds an exclusive lock on the policy table so the first lookup stays in
+ * flight while the others arrive, then checks they all shared its query.
+ */
+@DisplayName("Policy Lookup Coalescing Tests")
+class PolicyLookupCoalescingTest extends BaseIntegrationTest {
+
+	private static final int FOLLOWERS = 8;
+	private static final long TIMEOUT_MILLIS = 10_000;
+
+	@Autowired
+	private InsurancePolicyService policyService;
+
+	@Autowired
+	private ClientRepository clientRepository;
+
+	@Autowired
+	private InsurancePolicyRepository policyRepository;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private SqlStatementCounter statementCounter;
+
+	private UUID policyId;
+
+	@BeforeEach
+	void setUp() {
+		policyRepository.deleteAll();
+		clientRepository.deleteAll();
+
+		Client client = clientRepository.save(Client.builder()
+				.firstName("Hot")
+				.lastName("Key")
+				.email("hotkey@example.com")
+				.build());
+		policyId = policyRepository.save(InsurancePolicy.builder()
+				.policyNumber("POL-HOT-001")
+				.policyType("Auto")
+				.startDate(LocalDate.now().plusDays(1))
+				.endDate(LocalDate.now().plusYears(1))
+				.coveredRisks(Set.of("Theft", "Collision"))
+				.client(client)
+				.build()).getId();
+	}
+
+	@Test
+	@DisplayName("Test concurrent lookups of same policy share one query functionality")
+	void shouldShareOneQueryBetweenConcurrentLookups() throws Exception {
+		// given
+		List<FutureTask<InsurancePolicyResponseDTO>> lookups;
+
+		// when
+		try (Connection lock = dataSource.getConnection()) {
+			lockPolicyTable(lock);
+			lookups = startCoalescedLookups(lock, policyId);
+			statementCounter.reset();
+			lock.rollback();
+		}
+
+		// then
+		for (FutureTask<InsurancePolicyResponseDTO> lookup : lookups) {
+			InsurancePolicyResponseDTO policy = lookup.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+			assertThat(policy.policyNumber()).isEqualTo("POL-HOT-001");
+			assertThat(policy.coveredRisks()).containsExactly("Collision", "Theft");
+		}
+		assertThat(statementCounter.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Test concurrent lookups of missing policy share not found functionality")
+	void shouldShareNotFoundBetweenConcurrentLookups() throws Exception {
+		// given
+		UUID missingId = UUID.randomUUID();
+		List<FutureTask<InsurancePolicyResponseDTO>> lookups;
+
+		// when
+		try (Connection lock = dataSource.getConnection()) {
+			lockPolicyTable(lock);
+			lookups = startCoalescedLookups(lock, missingId);
+			statementCounter.reset();
+			lock.rollback();
+		}
+
+		// then
+		for (FutureTask<InsurancePolicyResponseDTO> lookup : lookups) {
+			assertThatThrownBy(() -> lookup.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS))
+					.isInstanceOf(ExecutionException.class)
+					.hasCauseInstanceOf(ResourceNotFoundException.class);
+		}
+		// one hot table lookup and one archive lookup, shared by all callers
+		assertThat(statementCounter.count()).isEqualTo(2);
+	}
+
+	private void lockPolicyTable(Connection lock) throws Exception {
+		lock.setAutoCommit(false);
+		try (Statement statement = lock.createStatement()) {
+			statement.execute("LOCK TABLE insurance_policies IN ACCESS EXCLUSIVE MODE");
+		}
+	}
+
+	/**
+	 * Starts one lookup and waits until it blocks on the table lock, then starts
+	 * the followers and waits until each of them is parked on the shared load.
+	 */
+	private List<FutureTask<InsurancePolicyResponseDTO>> startCoalescedLookups(Connection lock, UUID id)
+			throws Exception {
+		List<FutureTask<InsurancePolicyResponseDTO>> lookups = new ArrayList<>();
+		lookups.add(startLookup(id));
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		while (waitingOnPolicyTableLock(lock) == 0) {
+			assertThat(System.currentTimeMillis()).as("leader blocked on lock").isLessThan(deadline);
+			Thread.sleep(10);
+		}
+
+		List<Thread> followers = new ArrayList<>();
+		for (int i = 0; i < FOLLOWERS; i++) {
+			FutureTask<InsurancePolicyResponseDTO> lookup = new FutureTask<>(() -> policyService.getPolicyById(id));
+			Thread follower = new Thread(lookup, "lookup-follower-" + i);
+			follower.start();
+			followers.add(follower);
+			lookups.add(lookup);
+		}
+		for (Thread follower : followers) {
+			while (follower.getState() != Thread.State.WAITING) {
+				assertThat(System.currentTimeMillis()).as("follower joined the load").isLessThan(deadline);
+				Thread.sleep(10);
+			}
+		}
+		return lookups;
+	}
+
+	private FutureTask<InsurancePolicyResponseDTO> startLookup(UUID id) {
+		FutureTask<InsurancePolicyResponseDTO> lookup = new FutureTask<>(() -> policyService.getPolicyById(id));
+		new Thread(lookup, "lookup-leader").start();
+		return lookup;
+	}
+
+	private int waitingOnPolicyTableLock(Connection lock) throws Exception {
+		try (Statement statement = lock.createStatement();
+				ResultSet resultSet = statement.executeQuery("""
+						SELECT count(*) FROM pg_locks
+						WHERE relation = 'insurance_policies'::regclass AND NOT granted""")) {
+			resultSet.next();
+			return resultSet.getInt(1);
+		}
+	}
+
+}
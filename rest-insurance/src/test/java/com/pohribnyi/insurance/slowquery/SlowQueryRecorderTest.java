@@ -0,0 +1,126 @@
+package com.pohribnyi.insurance.slowquery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.dto.request.ClientRequestDTO;
+import com.pohribnyi.insurance.service.ClientService;
+
+@DisplayName("Slow Query Recorder Tests")
+@TestPropertySource(properties = "insurance.slow-query.threshold=0ms")
+class SlowQueryRecorderTest extends BaseIntegrationTest {
+
+	@Autowired
+	private SlowQueryRecorder recorder;
+
+	@Autowired
+	private ClientService clientService;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Value("${spring.datasource.url}")
+	private String url;
+
+	@Value("${spring.datasource.username}")
+	private String username;
+
+	@Value("${spring.datasource.password}")
+	private String password;
+
+	@BeforeEach
+	void setUp() {
+		truncateTables();
+		recorder.clear();
+	}
+
+	@Test
+	@DisplayName("Test statement kept with call site, rows and redacted parameters functionality")
+	void shouldKeepStatementWithCallSiteRowsAndRedactedParameters() {
+		// given
+		clientService.createClient(new ClientRequestDTO("Slow", "One", "slow.one@example.com"));
+		clientService.createClient(new ClientRequestDTO("Slow", "Two", "slow.two@example.com"));
+
+		// when
+		clientService.getAllClients();
+
+		// then
+		List<SlowQuery> queries = recorder.recent();
+		SlowQuery select = queries.stream()
+				.filter(query -> query.callSite() != null && query.callSite().startsWith("ClientService.getAllClients"))
+				.findFirst()
+				.orElseThrow();
+		assertThat(select.rows()).isEqualTo(2);
+		assertThat(select.batchSize()).isEqualTo(1);
+
+		SlowQuery insert = queries.stream()
+				.filter(query -> query.sql().startsWith("insert into clients"))
+				.findFirst()
+				.orElseThrow();
+		assertThat(insert.callSite()).startsWith("ClientService.createClient");
+		assertThat(insert.parameters()).contains("<String>").doesNotContain("slow.two@example.com");
+		assertThat(insert.rows()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Test kept statements read through read-only actuator endpoint functionality")
+	void shouldExposeThroughReadOnlyEndpoint() throws Exception {
+		// given
+		clientService.createClient(new ClientRequestDTO("Slow", "Endpoint", "slow.endpoint@example.com"));
+
+		// when
+		// then
+		mockMvc.perform(get("/actuator/slowqueries"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[*].callSite", hasItem(startsWith("ClientService.createClient"))));
+
+		mockMvc.perform(delete("/actuator/slowqueries"));
+		assertThat(recorder.recent()).anyMatch(query -> query.callSite() != null
+				&& query.callSite().startsWith("ClientService.createClient"));
+	}
+
+	@Test
+	@DisplayName("Test result sets of statements under the threshold passed through functionality")
+	void shouldPassThroughResultSetsUnderThreshold() throws Exception {
+		// given
+		SlowQueryRecorder slowOnly = new SlowQueryRecorder(
+				new SlowQueryProperties(true, Duration.ofHours(1), 1.0, 10, true));
+		DataSource dataSource = (DataSource) slowOnly.postProcessAfterInitialization(
+				new DriverManagerDataSource(url, username, password), "plain");
+
+		// when
+		try (Connection connection = dataSource.getConnection();
+				Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery("SELECT 1")) {
+
+			// then
+			assertThat(Proxy.isProxyClass(resultSet.getClass())).isFalse();
+		}
+		assertThat(slowOnly.recent()).isEmpty();
+	}
+
+}
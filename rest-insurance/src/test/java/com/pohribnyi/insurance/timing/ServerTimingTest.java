@@ -0,0 +1,69 @@
+package com.pohribnyi.insurance.timing;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.dto.request.ClientRequestDTO;
+import com.pohribnyi.insurance.service.ClientService;
+
+@DisplayName("Server Timing Tests")
+@TestPropertySource(properties = "insurance.server-timing.enabled=true")
+class ServerTimingTest extends BaseIntegrationTest {
+
+	private static final String DURATION = "\\d+\\.\\d";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ClientService clientService;
+
+	@BeforeEach
+	void setUp() {
+		truncateTables();
+	}
+
+	@Test
+	@DisplayName("Test report phases, statements and fetched rows in Server-Timing header functionality")
+	void shouldReportPhasesStatementsAndRows() throws Exception {
+		// given
+		clientService.createClient(new ClientRequestDTO("Timing", "One", "timing.one@example.com"));
+		clientService.createClient(new ClientRequestDTO("Timing", "Two", "timing.two@example.com"));
+
+		// when
+		// then
+		mockMvc.perform(get("/api/client"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(ServerTimingResponse.HEADER, matchesPattern(
+						"bind;dur=" + DURATION + ", app;dur=" + DURATION + ", db;dur=" + DURATION
+								+ ";desc=\"1 statements, 2 rows\", render;dur=" + DURATION
+								+ ", total;dur=" + DURATION)));
+	}
+
+	@Test
+	@DisplayName("Test Server-Timing header on rejected request without statements functionality")
+	void shouldReportRejectedRequest() throws Exception {
+		// given
+		String invalidClient = "{\"firstName\":\"\",\"lastName\":\"\",\"email\":\"not-an-email\"}";
+
+		// when
+		// then
+		mockMvc.perform(post("/api/client").contentType(MediaType.APPLICATION_JSON).content(invalidClient))
+				.andExpect(status().isBadRequest())
+				.andExpect(header().string(ServerTimingResponse.HEADER,
+						matchesPattern(".*db;dur=0\\.0;desc=\"0 statements, 0 rows\".*")));
+	}
+
+}